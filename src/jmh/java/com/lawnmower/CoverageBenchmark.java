@@ -0,0 +1,51 @@
+package com.lawnmower;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Time to mow a whole lawn headless with each shipped coverage strategy, on
+// square, wide, tall and odd-shaped lawns. The turns and transit of each
+// strategy are checked in CoveragePathTest.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoverageBenchmark {
+    // Rows x columns
+    @Param({"100x100", "20x500", "500x20", "1x1000", "333x77"})
+    String lawn;
+
+    @Param({"ROW_SERPENTINE", "COLUMN_SERPENTINE", "SPIRAL", "SHORTEST_DIMENSION_FIRST"})
+    CoverageStrategy strategy;
+
+    private int rows;
+    private int cols;
+
+    @Setup
+    public void setUp() {
+        MowerLog.setLevel(LogLevel.OFF);
+        String[] shape = lawn.split("x");
+        rows = Integer.parseInt(shape[0]);
+        cols = Integer.parseInt(shape[1]);
+    }
+
+    @Benchmark
+    public long mowLawn() {
+        LawnMower mower = new LawnMower(rows, cols);
+        mower.setCoveragePath(strategy.create());
+        return new SimulationEngine(mower, SimulationClock.fastForward()).run() + mower.getTurns();
+    }
+}
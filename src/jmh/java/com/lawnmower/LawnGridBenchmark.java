@@ -0,0 +1,76 @@
+package com.lawnmower;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// LawnGrid cell updates and full repaints into an offscreen Graphics2D, in
+// both render modes. Runs headless.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class LawnGridBenchmark {
+    private static final int PIXELS = 500;
+
+    @Param({"10", "100"})
+    int size;
+
+    @Param({"DIRECT", "BUFFERED"})
+    LawnGrid.RenderMode renderMode;
+
+    private LawnGrid grid;
+    private BufferedImage canvas;
+    private Graphics2D graphics;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        grid = new LawnGrid(size, size);
+        grid.setRenderMode(renderMode);
+        grid.setSize(PIXELS, PIXELS);
+        // Half the lawn mowed so both colors are painted
+        for (int row = 0; row < size; row += 2) {
+            for (int col = 0; col < size; col++) {
+                grid.updateCell(row, col, LawnGrid.MOWED_COLOR);
+            }
+        }
+        canvas = new BufferedImage(PIXELS, PIXELS, BufferedImage.TYPE_INT_RGB);
+        graphics = canvas.createGraphics();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public void updateCell() {
+        int cell = next++;
+        int row = (cell / size) % size;
+        int col = cell % size;
+        grid.updateCell(row, col, (cell & 1) == 0 ? LawnGrid.MOWED_COLOR : LawnGrid.UNMOWED_COLOR);
+    }
+
+    @Benchmark
+    public BufferedImage paintComponent() {
+        grid.paintComponent(graphics);
+        return canvas;
+    }
+}
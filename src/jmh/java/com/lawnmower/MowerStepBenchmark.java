@@ -0,0 +1,53 @@
+package com.lawnmower;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Mowing ticks per second on standalone and shared lawns of several sizes.
+// A finished mower is given its lawn again, so every operation is one tick.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MowerStepBenchmark {
+    @Param({"10", "100", "1000"})
+    int size;
+
+    // Whether cells are claimed on a shared LawnState
+    @Param({"false", "true"})
+    boolean shared;
+
+    private LawnMower mower;
+    private LawnState lawn;
+
+    @Setup
+    public void setUp() {
+        MowerLog.setLevel(LogLevel.OFF);
+        lawn = new LawnState(size, size);
+        mower = shared ? new LawnMower(lawn) : new LawnMower(size, size);
+        mower.begin();
+    }
+
+    @Benchmark
+    public boolean step() {
+        if (!mower.step()) {
+            lawn.clearAll();
+            mower.assign(0, 0, size, size);
+            mower.begin();
+        }
+        return mower.isMowing();
+    }
+}
@@ -0,0 +1,102 @@
+package com.lawnmower;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Time for a fleet of mowers, each ticking every millisecond, to mow a 1x50
+// strip: all mowers on the shared TickScheduler versus one MowerThread per
+// mower (virtual threads on Java 21+, platform threads before). Thread per
+// mower at 100000 mowers only runs with virtual threads: on older JVMs it
+// would start 100000 OS threads, so that case returns at
+// once there and its near-zero time is not a measurement.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MowerThreadingBenchmark {
+    private static final int CELLS = 50;
+    // More mowers than this need virtual threads in THREAD_PER_MOWER mode
+    private static final int MAX_PLATFORM_THREADS = 5000;
+
+    public enum Model { SCHEDULER, THREAD_PER_MOWER }
+
+    @Param({"100", "1000", "5000", "100000"})
+    int mowers;
+
+    @Param({"SCHEDULER", "THREAD_PER_MOWER"})
+    Model model;
+
+    private List<LawnMower> fleet;
+    private CountDownLatch finished;
+
+    private boolean skipped;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        MowerLog.setLevel(LogLevel.OFF);
+        skipped = model == Model.THREAD_PER_MOWER && mowers > MAX_PLATFORM_THREADS
+                && !MowerThread.isVirtualThreadAvailable();
+        if (skipped) {
+            fleet = new ArrayList<>();
+            return;
+        }
+        finished = new CountDownLatch(mowers);
+        fleet = new ArrayList<>(mowers);
+        for (int i = 0; i < mowers; i++) {
+            LawnMower mower = new LawnMower(1, CELLS);
+            mower.setTickPeriod(1);
+            mower.addObserver(new MowerObserver() {
+                @Override
+                public void onCellMowed(int row, int col) {
+                    // Only completion is measured
+                }
+
+                @Override
+                public void onStatusChanged(MowerStatus status) {
+                    if (status == MowerStatus.FINISHED) {
+                        finished.countDown();
+                    }
+                }
+            });
+            fleet.add(mower);
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+        fleet.forEach(LawnMower::stop);
+    }
+
+    @Benchmark
+    public void mowAll() throws InterruptedException {
+        if (skipped) {
+            return;
+        }
+        for (LawnMower mower : fleet) {
+            if (model == Model.SCHEDULER) {
+                mower.start();
+            } else {
+                new MowerThread(mower, 1).start();
+            }
+        }
+        finished.await();
+    }
+}
@@ -0,0 +1,65 @@
+package com.lawnmower;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Cost of delivering mowed cells to many observers, per tick, with and
+// without batching
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObserverFanOutBenchmark {
+    private static final int SIZE = 1000;
+
+    @Param({"1", "10", "1000"})
+    int observers;
+
+    @Param({"1", "64"})
+    int batchSize;
+
+    private LawnMower mower;
+
+    // Observer that does a little work per cell so the call is not removed
+    public static class CountingObserver implements MowerObserver {
+        long cells;
+
+        @Override
+        public void onCellMowed(int row, int col) {
+            cells += row + col;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        MowerLog.setLevel(LogLevel.OFF);
+        mower = new LawnMower(SIZE, SIZE);
+        for (int i = 0; i < observers; i++) {
+            mower.addObserver(new CountingObserver());
+        }
+        mower.setBatchSize(batchSize);
+        mower.begin();
+    }
+
+    @Benchmark
+    public boolean step() {
+        if (!mower.step()) {
+            mower.assign(0, 0, SIZE, SIZE);
+            mower.begin();
+        }
+        return mower.isMowing();
+    }
+}
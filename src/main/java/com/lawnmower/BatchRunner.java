@@ -0,0 +1,171 @@
+package com.lawnmower;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+// Runs many independent Scenarios across all cores for capacity planning.
+// Each scenario is one task on a work-stealing pool and builds its own lawn
+// and fleet, stepping the mowers round-robin on the task's thread: nothing
+// is shared between tasks, so throughput grows with the number of cores.
+// Results are handed over as tasks finish, in completion order.
+public class BatchRunner {
+    // Rounds between checks for cancellation
+    private static final int INTERRUPT_CHECK_MASK = 0xFFF;
+
+    private final int parallelism;
+
+    // One worker per available processor
+    public BatchRunner() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public BatchRunner(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("At least one worker is required: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    // Run every scenario, passing each result to the sink on the calling
+    // thread as soon as it is done; returns the number of results
+    public long run(List<Scenario> scenarios, Consumer<ScenarioResult> sink) throws InterruptedException {
+        if (scenarios == null || sink == null) {
+            throw new IllegalArgumentException("Scenarios and a result sink are required");
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            CompletionService<ScenarioResult> done = new ExecutorCompletionService<>(pool);
+            for (Scenario scenario : scenarios) {
+                done.submit(() -> simulate(scenario));
+            }
+            for (int i = 0; i < scenarios.size(); i++) {
+                sink.accept(done.take().get());
+            }
+            return scenarios.size();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Scenario failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // Run every scenario, streaming one CSV row per result to the file
+    public long run(List<Scenario> scenarios, Path csv) throws IOException, InterruptedException {
+        try (BufferedWriter out = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+            out.write(ScenarioResult.CSV_HEADER);
+            out.newLine();
+            return run(scenarios, result -> {
+                try {
+                    out.write(result.toCsvRow());
+                    out.newLine();
+                    out.flush(); // Rows are readable while the batch runs
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Run one scenario to completion on the calling thread
+    public static ScenarioResult simulate(Scenario scenario) {
+        long startNanos = System.nanoTime();
+        LawnState lawn = new LawnState(scenario.getRows(), scenario.getCols());
+        placeObstacles(lawn, scenario.getObstacleDensity(), new SplittableRandom(scenario.getSeed()));
+
+        // One strip per mower, as MowerFleet does by default
+        WorkPlanner planner = WorkPlanner.strips(lawn.getRows(), lawn.getCols(), scenario.getFleetSize());
+        LawnMower[] mowers = new LawnMower[scenario.getFleetSize()];
+        for (int i = 0; i < mowers.length; i++) {
+            LawnMower mower = new LawnMower(lawn);
+            if (scenario.getStrategy() != null) {
+                mower.setCoveragePath(scenario.getStrategy().create());
+            }
+            Tile strip = planner.next(i);
+            mower.assign(strip.getTop(), strip.getLeft(), strip.getBottom(), strip.getRight());
+            mower.begin();
+            mowers[i] = mower;
+        }
+
+        // Each round is one tick for every mower still mowing
+        long ticks = 0;
+        boolean mowing = true;
+        while (mowing) {
+            mowing = false;
+            for (LawnMower mower : mowers) {
+                if (mower.isMowing() && mower.step()) {
+                    mowing = true;
+                }
+            }
+            ticks++;
+            if ((ticks & INTERRUPT_CHECK_MASK) == 0 && Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        }
+
+        long cellsMowed = 0;
+        long mowingDistance = 0;
+        long transitDistance = 0;
+        long turns = 0;
+        long relocations = 0;
+        for (LawnMower mower : mowers) {
+            mower.stop();
+            cellsMowed += mower.getCellsMowed();
+            mowingDistance += mower.getMowingDistance();
+            transitDistance += mower.getTransitDistance();
+            turns += mower.getTurns();
+            relocations += mower.getRelocations();
+        }
+        return new ScenarioResult(scenario, lawn.getObstacleCount(), ticks, cellsMowed, mowingDistance,
+                transitDistance, turns, relocations, System.nanoTime() - startNanos);
+    }
+
+    // Block each cell independently with the given probability
+    private static void placeObstacles(LawnState lawn, double density, SplittableRandom random) {
+        if (density <= 0) {
+            return;
+        }
+        for (int row = 0; row < lawn.getRows(); row++) {
+            for (int col = 0; col < lawn.getCols(); col++) {
+                if (random.nextDouble() < density) {
+                    lawn.setObstacle(row, col);
+                }
+            }
+        }
+    }
+
+    // Sweep a default matrix into a CSV file, by default batch-results.csv
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path csv = Paths.get(args.length > 0 ? args[0] : "batch-results.csv");
+        List<Scenario> scenarios = Scenario.matrix(
+                new int[][] {{50, 50}, {100, 100}, {200, 200}},
+                new double[] {0, 0.05, 0.15},
+                new int[] {1, 2, 4},
+                new CoverageStrategy[] {null, CoverageStrategy.ROW_SERPENTINE, CoverageStrategy.SPIRAL},
+                5, 42);
+        MowerLog.setLevel(LogLevel.WARN); // Thousands of mowers starting and finishing
+        BatchRunner runner = new BatchRunner();
+        long startNanos = System.nanoTime();
+        long count = runner.run(scenarios, csv);
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        System.out.printf("%d scenarios on %d workers in %.2f s (%.1f/s), results in %s%n",
+                count, runner.getParallelism(), seconds, count / seconds, csv.toAbsolutePath());
+    }
+}
@@ -0,0 +1,111 @@
+package com.lawnmower;
+
+// Row serpentine over the lawn cells of a ChunkedLawnState. Cells outside
+// the parcels are never visited, and tiles without lawn are skipped whole,
+// so a mower on a huge, mostly empty property ticks once per lawn cell
+// instead of once per cell of the bounding rectangle. Gaps between parcels
+// along a lane are driven as transit.
+public class ChunkedLawnPath implements CoveragePath {
+    private final ChunkedLawnState lawn;
+    private int top;
+    private int left;
+    private int bottom;
+    private int right;
+    private long total;
+    private long position;
+    // Cell the next call to next() returns
+    private int row;
+    private int col;
+
+    public ChunkedLawnPath(ChunkedLawnState lawn) {
+        if (lawn == null) {
+            throw new IllegalArgumentException("Lawn is required");
+        }
+        this.lawn = lawn;
+    }
+
+    // Picks up the lawn's current parcels; parcels added later are only seen
+    // after the next reset
+    @Override
+    public void reset(int top, int left, int bottom, int right) {
+        this.top = Math.max(0, top);
+        this.left = Math.max(0, left);
+        this.bottom = Math.min(lawn.getRows(), bottom);
+        this.right = Math.min(lawn.getCols(), right);
+        long cells = 0;
+        if (this.left < this.right) {
+            for (int r = this.top; r < this.bottom; r++) {
+                cells += lawn.countLawn(r, this.left, this.right);
+            }
+        }
+        this.total = cells;
+        seek(0);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return position < total;
+    }
+
+    @Override
+    public long next() {
+        long cell = CoveragePath.pack(row, col);
+        position++;
+        if (((row - top) & 1) == 0) {
+            int following = lawn.nextLawn(row, col + 1, right);
+            if (following < right) {
+                col = following;
+            } else {
+                enterLane(row + 1);
+            }
+        } else {
+            int following = lawn.previousLawn(row, left, col);
+            if (following >= left) {
+                col = following;
+            } else {
+                enterLane(row + 1);
+            }
+        }
+        return cell;
+    }
+
+    @Override
+    public long position() {
+        return position;
+    }
+
+    @Override
+    public void seek(long position) {
+        this.position = Math.max(0, Math.min(position, total));
+        long remaining = this.position;
+        // Skip whole lanes, then lawn cells within the lane
+        int lane = top;
+        while (lane < bottom) {
+            int cells = lawn.countLawn(lane, left, right);
+            if (remaining < cells) {
+                break;
+            }
+            remaining -= cells;
+            lane++;
+        }
+        enterLane(lane);
+        for (; remaining > 0; remaining--) {
+            col = ((row - top) & 1) == 0
+                    ? lawn.nextLawn(row, col + 1, right)
+                    : lawn.previousLawn(row, left, col);
+        }
+    }
+
+    // Move to the first lawn cell of the first lane from the given row that
+    // has any
+    private void enterLane(int lane) {
+        for (row = lane; row < bottom; row++) {
+            col = ((row - top) & 1) == 0
+                    ? lawn.nextLawn(row, left, right)
+                    : lawn.previousLawn(row, left, right);
+            if (col >= left && col < right) {
+                return;
+            }
+        }
+    }
+}
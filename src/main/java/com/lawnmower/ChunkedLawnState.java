@@ -0,0 +1,336 @@
+package com.lawnmower;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+// Mowed state of a large, irregular property that is mostly not lawn. The
+// bounding rectangle is cut into 64x64 tiles, and only tiles that contain
+// lawn are allocated: one long[64] of mowed bits (a word per tile row) plus
+// the tile's lawn shape, shared between all tiles that are entirely lawn.
+// Tiles are found through a two-level index, a directory of tile rows each
+// holding its tiles, so memory follows the lawn area rather than the bounds.
+// Mowed bits are updated atomically, so mowers on different threads may
+// share it as an observer. ChunkedLawnPath drives a mower over the lawn
+// cells only, so mowing time also follows the lawn area.
+public class ChunkedLawnState implements MowerObserver {
+    private static final int TILE_SHIFT = 6;
+    private static final int TILE_SIZE = 1 << TILE_SHIFT;
+    private static final int TILE_MASK = TILE_SIZE - 1;
+    private static final long WORD_MASK = 0xFFFFFFFFFFFFFFFFL;
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+    // Shape of a tile that is lawn throughout; never written
+    private static final long[] FULL_TILE = fullTile();
+
+    private final int rows;
+    private final int cols;
+    private final int tileRows;
+    private final int tileCols;
+    // [tileRow][tileCol], a tile row is allocated with its first lawn tile
+    private final long[][][] mowed;
+    private final long[][][] shapes;
+    private long lawnCells;
+    private int tileCount;
+
+    public ChunkedLawnState(int rows, int cols) {
+        if (rows < 0 || cols < 0) {
+            throw new IllegalArgumentException("Invalid lawn bounds: " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.tileRows = (rows + TILE_MASK) >>> TILE_SHIFT;
+        this.tileCols = (cols + TILE_MASK) >>> TILE_SHIFT;
+        this.mowed = new long[tileRows][][];
+        this.shapes = new long[tileRows][][];
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    // Make rows [top, bottom) x columns [left, right) part of the lawn.
+    // Irregular parcels are built from several rectangles. Call before mowing.
+    public void addLawn(int top, int left, int bottom, int right) {
+        int fromRow = Math.max(0, top);
+        int toRow = Math.min(rows, bottom);
+        int fromCol = Math.max(0, left);
+        int toCol = Math.min(cols, right);
+        if (fromRow >= toRow || fromCol >= toCol) {
+            return;
+        }
+        for (int tileRow = fromRow >>> TILE_SHIFT; tileRow <= (toRow - 1) >>> TILE_SHIFT; tileRow++) {
+            int rowBase = tileRow << TILE_SHIFT;
+            int firstRow = Math.max(fromRow, rowBase) - rowBase;
+            int lastRow = Math.min(toRow, rowBase + TILE_SIZE) - rowBase;
+            for (int tileCol = fromCol >>> TILE_SHIFT; tileCol <= (toCol - 1) >>> TILE_SHIFT; tileCol++) {
+                int colBase = tileCol << TILE_SHIFT;
+                int firstCol = Math.max(fromCol, colBase) - colBase;
+                int lastCol = Math.min(toCol, colBase + TILE_SIZE) - colBase;
+                long bits = (WORD_MASK << firstCol) & (WORD_MASK >>> (TILE_SIZE - lastCol));
+                addToTile(tileRow, tileCol, firstRow, lastRow, bits);
+            }
+        }
+    }
+
+    public boolean isLawn(int row, int col) {
+        long[] shape = shape(row, col);
+        return shape != null && (shape[row & TILE_MASK] & (1L << col)) != 0;
+    }
+
+    public boolean isMowed(int row, int col) {
+        long[] tile = tile(row, col);
+        return tile != null && ((long) WORDS.getAcquire(tile, row & TILE_MASK) & (1L << col)) != 0;
+    }
+
+    // Mark a cell as mowed, atomically like tryMow; cells that are not lawn
+    // are ignored
+    public void mow(int row, int col) {
+        if (isLawn(row, col)) {
+            WORDS.getAndBitwiseOr(tile(row, col), row & TILE_MASK, 1L << col);
+        }
+    }
+
+    // Atomically claim a lawn cell; true only for the caller that mowed it
+    public boolean tryMow(int row, int col) {
+        if (!isLawn(row, col)) {
+            return false;
+        }
+        long mask = 1L << col;
+        long previous = (long) WORDS.getAndBitwiseOr(tile(row, col), row & TILE_MASK, mask);
+        return (previous & mask) == 0;
+    }
+
+    public void clear(int row, int col) {
+        long[] tile = tile(row, col);
+        if (tile != null) {
+            WORDS.getAndBitwiseAnd(tile, row & TILE_MASK, ~(1L << col));
+        }
+    }
+
+    // Mark the lawn cells in columns [fromCol, toCol) of a row as mowed, a
+    // tile word at a time, each word atomically
+    public void mowRange(int row, int fromCol, int toCol) {
+        if (row < 0 || row >= rows) {
+            return;
+        }
+        int from = Math.max(0, fromCol);
+        int to = Math.min(cols, toCol);
+        long[][] mowedRow = mowed[row >>> TILE_SHIFT];
+        if (mowedRow == null) {
+            return;
+        }
+        long[][] shapeRow = shapes[row >>> TILE_SHIFT];
+        int word = row & TILE_MASK;
+        while (from < to) {
+            int tileCol = from >>> TILE_SHIFT;
+            int end = Math.min(to, (tileCol + 1) << TILE_SHIFT);
+            long[] tile = mowedRow[tileCol];
+            if (tile != null) {
+                long bits = (WORD_MASK << from) & (WORD_MASK >>> (TILE_SIZE - (end - (tileCol << TILE_SHIFT))));
+                WORDS.getAndBitwiseOr(tile, word, bits & shapeRow[tileCol][word]);
+            }
+            from = end;
+        }
+    }
+
+    // First lawn column in [fromCol, toCol) of the row, or toCol if none.
+    // Tiles without lawn are skipped whole.
+    public int nextLawn(int row, int fromCol, int toCol) {
+        int from = Math.max(0, fromCol);
+        int to = Math.min(cols, toCol);
+        long[][] shapeRow = row < 0 || row >= rows ? null : shapes[row >>> TILE_SHIFT];
+        if (shapeRow == null) {
+            return toCol;
+        }
+        int word = row & TILE_MASK;
+        while (from < to) {
+            int tileCol = from >>> TILE_SHIFT;
+            long[] shape = shapeRow[tileCol];
+            if (shape != null) {
+                long bits = shape[word] & (WORD_MASK << from);
+                if (bits != 0) {
+                    int col = (tileCol << TILE_SHIFT) + Long.numberOfTrailingZeros(bits);
+                    return col < to ? col : toCol;
+                }
+            }
+            from = (tileCol + 1) << TILE_SHIFT;
+        }
+        return toCol;
+    }
+
+    // Last lawn column in [fromCol, toCol) of the row, or fromCol - 1 if none
+    public int previousLawn(int row, int fromCol, int toCol) {
+        int from = Math.max(0, fromCol);
+        int last = Math.min(cols, toCol) - 1;
+        long[][] shapeRow = row < 0 || row >= rows ? null : shapes[row >>> TILE_SHIFT];
+        if (shapeRow == null) {
+            return fromCol - 1;
+        }
+        int word = row & TILE_MASK;
+        while (last >= from) {
+            int tileCol = last >>> TILE_SHIFT;
+            long[] shape = shapeRow[tileCol];
+            if (shape != null) {
+                long bits = shape[word] & (WORD_MASK >>> (TILE_MASK - (last & TILE_MASK)));
+                if (bits != 0) {
+                    int col = (tileCol << TILE_SHIFT) + TILE_MASK - Long.numberOfLeadingZeros(bits);
+                    return col >= from ? col : fromCol - 1;
+                }
+            }
+            last = (tileCol << TILE_SHIFT) - 1;
+        }
+        return fromCol - 1;
+    }
+
+    // Number of lawn cells in columns [fromCol, toCol) of a row
+    public int countLawn(int row, int fromCol, int toCol) {
+        int from = Math.max(0, fromCol);
+        int to = Math.min(cols, toCol);
+        long[][] shapeRow = row < 0 || row >= rows ? null : shapes[row >>> TILE_SHIFT];
+        if (shapeRow == null) {
+            return 0;
+        }
+        int word = row & TILE_MASK;
+        int count = 0;
+        while (from < to) {
+            int tileCol = from >>> TILE_SHIFT;
+            int end = Math.min(to, (tileCol + 1) << TILE_SHIFT);
+            long[] shape = shapeRow[tileCol];
+            if (shape != null) {
+                long bits = (WORD_MASK << from) & (WORD_MASK >>> (TILE_SIZE - (end - (tileCol << TILE_SHIFT))));
+                count += Long.bitCount(shape[word] & bits);
+            }
+            from = end;
+        }
+        return count;
+    }
+
+    // Number of cells that are lawn
+    public long getLawnCellCount() {
+        return lawnCells;
+    }
+
+    // Number of mowed lawn cells
+    public long getMowedCount() {
+        long count = 0;
+        for (long[][] tileRow : mowed) {
+            if (tileRow == null) {
+                continue;
+            }
+            for (long[] tile : tileRow) {
+                if (tile != null) {
+                    for (long word : tile) {
+                        count += Long.bitCount(word);
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    // Percentage of the lawn that has been mowed, from 0 to 100
+    public double getPercentMowed() {
+        return lawnCells == 0 ? 100.0 : getMowedCount() * 100.0 / lawnCells;
+    }
+
+    public boolean isFullyMowed() {
+        return getMowedCount() == lawnCells;
+    }
+
+    // Number of allocated tiles
+    public int getTileCount() {
+        return tileCount;
+    }
+
+    // Approximate heap used by the index and the allocated tiles
+    public long getAllocatedBytes() {
+        long bytes = 2L * tileRows * Long.BYTES;
+        for (long[][] tileRow : mowed) {
+            if (tileRow != null) {
+                bytes += 2L * tileCols * Long.BYTES;
+            }
+        }
+        long tileBytes = 16 + TILE_SIZE * Long.BYTES;
+        bytes += tileCount * tileBytes;
+        for (long[][] tileRow : shapes) {
+            if (tileRow == null) {
+                continue;
+            }
+            for (long[] shape : tileRow) {
+                if (shape != null && shape != FULL_TILE) {
+                    bytes += tileBytes;
+                }
+            }
+        }
+        return bytes;
+    }
+
+    @Override
+    public void onCellMowed(int row, int col) {
+        mow(row, col);
+    }
+
+    @Override
+    public void onCellsMowed(int[] rows, int[] cols, int count) {
+        for (int i = 0; i < count; i++) {
+            mow(rows[i], cols[i]);
+        }
+    }
+
+    // Mowed bits of the tile holding a cell, or null if it has no lawn
+    private long[] tile(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return null;
+        }
+        long[][] tileRow = mowed[row >>> TILE_SHIFT];
+        return tileRow == null ? null : tileRow[col >>> TILE_SHIFT];
+    }
+
+    private long[] shape(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return null;
+        }
+        long[][] tileRow = shapes[row >>> TILE_SHIFT];
+        return tileRow == null ? null : tileRow[col >>> TILE_SHIFT];
+    }
+
+    // Add the given bits to tile rows [firstRow, lastRow) of a tile
+    private void addToTile(int tileRow, int tileCol, int firstRow, int lastRow, long bits) {
+        if (mowed[tileRow] == null) {
+            mowed[tileRow] = new long[tileCols][];
+            shapes[tileRow] = new long[tileCols][];
+        }
+        long[] shape = shapes[tileRow][tileCol];
+        if (shape == FULL_TILE) {
+            return;
+        }
+        if (shape == null) {
+            mowed[tileRow][tileCol] = new long[TILE_SIZE];
+            tileCount++;
+            if (firstRow == 0 && lastRow == TILE_SIZE && bits == WORD_MASK) {
+                shapes[tileRow][tileCol] = FULL_TILE;
+                lawnCells += (long) TILE_SIZE * TILE_SIZE;
+                return;
+            }
+            shape = new long[TILE_SIZE];
+            shapes[tileRow][tileCol] = shape;
+        }
+        for (int i = firstRow; i < lastRow; i++) {
+            lawnCells += Long.bitCount(bits & ~shape[i]);
+            shape[i] |= bits;
+        }
+        if (Arrays.equals(shape, FULL_TILE)) {
+            shapes[tileRow][tileCol] = FULL_TILE; // Drop the private shape
+        }
+    }
+
+    private static long[] fullTile() {
+        long[] tile = new long[TILE_SIZE];
+        Arrays.fill(tile, WORD_MASK);
+        return tile;
+    }
+}
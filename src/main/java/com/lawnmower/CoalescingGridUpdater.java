@@ -0,0 +1,218 @@
+package com.lawnmower;
+
+import java.awt.Color;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.SwingUtilities;
+
+// Delivery stage between a mower and the Swing grid. Mowed cells arrive on
+// any thread and are buffered; at most once per display frame a single
+// SwingUtilities.invokeLater applies everything buffered since the last frame
+// to the LawnGrid on the EDT. The next frame is only scheduled once that one
+// has run, so a slow EDT never has more than one flush queued. If the EDT
+// falls so far behind that a frame buffers more cells than the cap, further
+// cells are marked on a bitmap of the grid instead, and the frame refreshes
+// every marked cell of the whole grid; memory stays bounded by the cap plus
+// one bit per cell.
+public class CoalescingGridUpdater implements MowerObserver {
+    public static final int DEFAULT_FRAMES_PER_SECOND = 60;
+    public static final int DEFAULT_MAX_PENDING = 1 << 16;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final LawnGrid lawnGrid;
+    private final Color color;
+    private final long frameNanos;
+    private final int maxPending;
+    private final Object lock = new Object();
+
+    // Cells collected off the EDT, guarded by lock
+    private int[] pendingRows = new int[INITIAL_CAPACITY];
+    private int[] pendingCols = new int[INITIAL_CAPACITY];
+    private int pendingCount;
+    private boolean flushScheduled;
+    private long lastFlushNanos;
+
+    // Cells past the cap, created on the first overflow. Bits are set under
+    // lock and taken atomically by the flush without it.
+    private LawnState overflow;
+    private boolean overflowPending;
+
+    // Buffers being applied on the EDT, swapped with the pending ones
+    private int[] flushRows = new int[INITIAL_CAPACITY];
+    private int[] flushCols = new int[INITIAL_CAPACITY];
+
+    private volatile long frameCount;
+    private volatile long fullRefreshCount;
+
+    public CoalescingGridUpdater(LawnGrid lawnGrid, Color color) {
+        this(lawnGrid, color, DEFAULT_FRAMES_PER_SECOND);
+    }
+
+    public CoalescingGridUpdater(LawnGrid lawnGrid, Color color, int maxFramesPerSecond) {
+        this(lawnGrid, color, maxFramesPerSecond, DEFAULT_MAX_PENDING);
+    }
+
+    // At most maxPending cells are buffered one by one per frame
+    public CoalescingGridUpdater(LawnGrid lawnGrid, Color color, int maxFramesPerSecond, int maxPending) {
+        if (lawnGrid == null || color == null || maxFramesPerSecond <= 0 || maxPending <= 0) {
+            throw new IllegalArgumentException("Grid, color, a positive frame rate and buffer cap are required");
+        }
+        this.lawnGrid = lawnGrid;
+        this.color = color;
+        this.frameNanos = TimeUnit.SECONDS.toNanos(1) / maxFramesPerSecond;
+        this.maxPending = maxPending;
+        this.lastFlushNanos = System.nanoTime() - frameNanos;
+    }
+
+    // Buffer a mowed cell
+    @Override
+    public void onCellMowed(int row, int col) {
+        synchronized (lock) {
+            if (pendingCount < maxPending) {
+                if (pendingCount == pendingRows.length) {
+                    grow(pendingCount + 1);
+                }
+                pendingRows[pendingCount] = row;
+                pendingCols[pendingCount] = col;
+                pendingCount++;
+            } else {
+                overflow().mow(row, col);
+                overflowPending = true;
+            }
+            scheduleFrameIfIdle();
+        }
+    }
+
+    // Buffer a whole batch under one lock acquisition
+    @Override
+    public void onCellsMowed(int[] rows, int[] cols, int count) {
+        synchronized (lock) {
+            int buffered = Math.min(count, maxPending - pendingCount);
+            if (pendingCount + buffered > pendingRows.length) {
+                grow(pendingCount + buffered);
+            }
+            System.arraycopy(rows, 0, pendingRows, pendingCount, buffered);
+            System.arraycopy(cols, 0, pendingCols, pendingCount, buffered);
+            pendingCount += buffered;
+            if (buffered < count) {
+                LawnState bitmap = overflow();
+                for (int i = buffered; i < count; i++) {
+                    bitmap.mow(rows[i], cols[i]);
+                }
+                overflowPending = true;
+            }
+            scheduleFrameIfIdle();
+        }
+    }
+
+    // Number of frames delivered to the grid so far
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    // Number of frames that went over the cap and refreshed the whole grid
+    public long getFullRefreshCount() {
+        return fullRefreshCount;
+    }
+
+    // Double the pending buffers, up to the cap; caller holds lock
+    private void grow(int needed) {
+        int capacity = (int) Math.min(maxPending, Math.max(needed, pendingRows.length * 2L));
+        pendingRows = Arrays.copyOf(pendingRows, capacity);
+        pendingCols = Arrays.copyOf(pendingCols, capacity);
+    }
+
+    // The bitmap for cells past the cap; caller holds lock
+    private LawnState overflow() {
+        if (overflow == null) {
+            LawnState lawn = lawnGrid.getLawnState();
+            overflow = new LawnState(lawn.getRows(), lawn.getCols());
+        }
+        return overflow;
+    }
+
+    // The first cell of a frame schedules its flush; caller holds lock
+    private void scheduleFrameIfIdle() {
+        if (!flushScheduled) {
+            flushScheduled = true;
+            scheduleFlush(lastFlushNanos + frameNanos - System.nanoTime());
+        }
+    }
+
+    // Wait out the rest of the current frame on the shared frame timer, so the
+    // producer never blocks and the EDT sees at most one flush per frame
+    private void scheduleFlush(long delayNanos) {
+        if (delayNanos <= 0) {
+            SwingUtilities.invokeLater(this::flush);
+        } else {
+            FrameTimer.INSTANCE.schedule(() -> SwingUtilities.invokeLater(this::flush),
+                    delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // Apply every buffered cell to the grid; runs on the EDT. The flush stays
+    // scheduled until it is done, so cells arriving meanwhile wait for the
+    // next frame rather than queueing another invokeLater.
+    void flush() {
+        int count;
+        LawnState bitmap;
+        synchronized (lock) {
+            int[] rows = pendingRows;
+            int[] cols = pendingCols;
+            pendingRows = flushRows;
+            pendingCols = flushCols;
+            flushRows = rows;
+            flushCols = cols;
+            count = pendingCount;
+            pendingCount = 0;
+            bitmap = overflowPending ? overflow : null;
+            overflowPending = false;
+            lastFlushNanos = System.nanoTime();
+        }
+
+        for (int i = 0; i < count; i++) {
+            lawnGrid.updateCell(flushRows[i], flushCols[i], color);
+        }
+        if (bitmap != null) {
+            refreshMarked(bitmap);
+            fullRefreshCount++;
+        }
+        frameCount++;
+
+        synchronized (lock) {
+            flushScheduled = false;
+            if (pendingCount > 0 || overflowPending) {
+                scheduleFrameIfIdle();
+            }
+        }
+    }
+
+    // Full-grid pass over the overflow bitmap, taking each marked cell. A
+    // cell marked again meanwhile is applied twice, which is harmless; one
+    // marked after its row was scanned is left for the next frame.
+    private void refreshMarked(LawnState bitmap) {
+        for (int row = 0; row < bitmap.getRows(); row++) {
+            if (bitmap.countRow(row) == 0) {
+                continue;
+            }
+            for (int col = 0; col < bitmap.getCols(); col++) {
+                if (bitmap.isMowed(row, col)) {
+                    bitmap.clear(row, col);
+                    lawnGrid.updateCell(row, col, color);
+                }
+            }
+        }
+    }
+
+    // One daemon thread shared by every updater to delay frames
+    private static final class FrameTimer {
+        static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lawn-frame-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
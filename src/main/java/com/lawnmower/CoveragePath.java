@@ -0,0 +1,33 @@
+package com.lawnmower;
+
+// Order in which a mower visits the cells of its region. Paths are reusable,
+// allocation-free iterators: next() returns a packed cell (row in the high 32
+// bits, column in the low 32 bits) and reset() starts over on a new region.
+public interface CoveragePath {
+
+    // Start over covering rows [top, bottom) and columns [left, right)
+    void reset(int top, int left, int bottom, int right);
+
+    boolean hasNext();
+
+    // Packed index of the next cell to mow
+    long next();
+
+    // Cells returned since the last reset
+    long position();
+
+    // Continue as if position cells had already been returned since reset
+    void seek(long position);
+
+    static long pack(int row, int col) {
+        return ((long) row << 32) | (col & 0xFFFFFFFFL);
+    }
+
+    static int row(long cell) {
+        return (int) (cell >>> 32);
+    }
+
+    static int col(long cell) {
+        return (int) cell;
+    }
+}
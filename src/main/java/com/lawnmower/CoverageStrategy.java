@@ -0,0 +1,36 @@
+package com.lawnmower;
+
+// Coverage paths shipped with the simulator
+public enum CoverageStrategy {
+    // Rows in turn, alternating left-to-right and right-to-left
+    ROW_SERPENTINE {
+        @Override
+        public CoveragePath create() {
+            return new SerpentinePath(true);
+        }
+    },
+    // Columns in turn, alternating top-to-bottom and bottom-to-top
+    COLUMN_SERPENTINE {
+        @Override
+        public CoveragePath create() {
+            return new SerpentinePath(false);
+        }
+    },
+    // Clockwise around the edge, then inwards ring by ring
+    SPIRAL {
+        @Override
+        public CoveragePath create() {
+            return new SpiralPath();
+        }
+    },
+    // Serpentine with lanes along the longer side, so there are as few lanes
+    // (and turns) as possible
+    SHORTEST_DIMENSION_FIRST {
+        @Override
+        public CoveragePath create() {
+            return new ShortestDimensionFirstPath();
+        }
+    };
+
+    public abstract CoveragePath create();
+}
@@ -0,0 +1,102 @@
+package com.lawnmower;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Lock-free record of which square tiles of cells changed since the
+// renderer last looked, one bit per tile. Any number of producer threads
+// mark cells; one consumer, normally the EDT, drains the tiles as
+// rectangles. A single pending flag tells producers whether a drain has to
+// be scheduled: only the first mark after a drain gets true. Marking a tile
+// that is already dirty is a read and no write, so a busy fleet does not
+// contend on it.
+//
+// A mark is never lost: the producer sets the tile bit before looking at the
+// flag, and the consumer clears the flag before taking the bits, so a bit
+// set after the take always sees a cleared flag and schedules another drain.
+public class DirtyTileMap {
+    private final int rows;
+    private final int cols;
+    private final int tileSize;
+    private final int tileCols;
+    private final AtomicLongArray tiles;
+    private final AtomicBoolean pending = new AtomicBoolean();
+
+    public DirtyTileMap(int rows, int cols, int tileSize) {
+        if (rows < 0 || cols < 0 || tileSize < 1) {
+            throw new IllegalArgumentException("Invalid dirty map: " + rows + "x" + cols + " in tiles of " + tileSize);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.tileSize = tileSize;
+        this.tileCols = (cols + tileSize - 1) / tileSize;
+        long tileCount = (long) ((rows + tileSize - 1) / tileSize) * tileCols;
+        this.tiles = new AtomicLongArray((int) ((tileCount + 63) >>> 6));
+    }
+
+    // Record a changed cell; returns true if a drain has to be scheduled.
+    // Out-of-bounds cells are ignored.
+    public boolean mark(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return false;
+        }
+        int tile = (row / tileSize) * tileCols + col / tileSize;
+        int word = tile >>> 6;
+        long mask = 1L << tile;
+        long current;
+        while (((current = tiles.get(word)) & mask) == 0) {
+            if (tiles.compareAndSet(word, current, current | mask)) {
+                break;
+            }
+        }
+        return !pending.get() && !pending.getAndSet(true);
+    }
+
+    // Whether a drain is due
+    public boolean isPending() {
+        return pending.get();
+    }
+
+    // Take the dirty tiles as rectangles in cell coordinates (x = column,
+    // y = row), clipped to the lawn; neighbouring dirty tiles of a tile row
+    // come back as one rectangle. Call from the consumer thread only.
+    public Rectangle[] drain() {
+        pending.set(false);
+        List<Rectangle> regions = new ArrayList<>();
+        int runStart = -1; // First tile of the current run, or -1
+        int previous = -2;
+        for (int word = 0; word < tiles.length(); word++) {
+            long bits = tiles.get(word) == 0 ? 0 : tiles.getAndSet(word, 0);
+            while (bits != 0) {
+                int tile = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                // A run continues along the same tile row only
+                if (tile != previous + 1 || tile % tileCols == 0) {
+                    addRun(regions, runStart, previous);
+                    runStart = tile;
+                }
+                previous = tile;
+            }
+        }
+        addRun(regions, runStart, previous);
+        return regions.toArray(new Rectangle[0]);
+    }
+
+    private void addRun(List<Rectangle> regions, int first, int last) {
+        if (first < 0) {
+            return;
+        }
+        int top = (first / tileCols) * tileSize;
+        int left = (first % tileCols) * tileSize;
+        int right = Math.min(cols, (last % tileCols + 1) * tileSize);
+        int bottom = Math.min(rows, top + tileSize);
+        regions.add(new Rectangle(left, top, right - left, bottom - top));
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+}
@@ -0,0 +1,170 @@
+package com.lawnmower;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.LockSupport;
+
+// Feeds a MowerEventLog back into observers, either as fast as possible or
+// paced by the recorded timestamps. Batches are delivered as they were
+// recorded, in arrays reused across records.
+public class EventLogReplayer {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final MowerStatus[] STATUSES = MowerStatus.values();
+
+    private final Path file;
+    private int[] rows = new int[64];
+    private int[] cols = new int[64];
+
+    public EventLogReplayer(Path file) {
+        if (file == null) {
+            throw new IllegalArgumentException("Event log file is required");
+        }
+        this.file = file;
+    }
+
+    // Replay at full speed; returns the number of events delivered
+    public long replay(MowerObserver target) throws IOException {
+        return run(target, 0);
+    }
+
+    // Replay onto a grid at full speed, painting mowed cells as the mower did
+    public long replay(LawnGrid grid) throws IOException {
+        return run(new CoalescingGridUpdater(grid, LawnGrid.MOWED_COLOR), 0);
+    }
+
+    // Replay in recorded time divided by speedup, e.g. 1.0 for real time
+    public long replay(MowerObserver target, double speedup) throws IOException, InterruptedException {
+        if (speedup <= 0) {
+            throw new IllegalArgumentException("Speedup must be positive: " + speedup);
+        }
+        long events = run(target, speedup);
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException("Replay interrupted");
+        }
+        return events;
+    }
+
+    private long run(MowerObserver target, double speedup) throws IOException {
+        if (target == null) {
+            throw new IllegalArgumentException("Replay target is required");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Reader in = new Reader(channel);
+            if (in.readInt() != MowerEventLog.MAGIC || in.readInt() != MowerEventLog.VERSION) {
+                throw new IOException("Not a mower event log");
+            }
+            long width = in.readInt();
+            if (width < 1) {
+                throw new IOException("Corrupt event log: lawn width " + width);
+            }
+            long cell = 0;
+            long events = 0;
+            long elapsed = 0;
+            long startNanos = System.nanoTime();
+            while (in.hasMore()) {
+                byte tag = in.readByte();
+                elapsed += in.readVarint();
+                if (speedup > 0 && !waitUntil(startNanos + (long) (elapsed / speedup))) {
+                    return events;
+                }
+                if (tag == MowerEventLog.CELLS) {
+                    int count = (int) in.readVarint();
+                    ensureCapacity(count);
+                    for (int i = 0; i < count; i++) {
+                        long zigzag = in.readVarint();
+                        cell += (zigzag >>> 1) ^ -(zigzag & 1);
+                        rows[i] = (int) (cell / width);
+                        cols[i] = (int) (cell % width);
+                    }
+                    target.onCellsMowed(rows, cols, count);
+                    events += count;
+                } else if (tag == MowerEventLog.STATUS) {
+                    int status = in.readByte();
+                    if (status < 0 || status >= STATUSES.length) {
+                        throw new IOException("Corrupt event log: status " + status);
+                    }
+                    target.onStatusChanged(STATUSES[status]);
+                    events++;
+                } else {
+                    throw new IOException("Corrupt event log: record tag " + tag);
+                }
+            }
+            return events;
+        }
+    }
+
+    // Park until the deadline; false if interrupted, with the flag kept
+    private static boolean waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureCapacity(int count) {
+        if (rows.length < count) {
+            rows = new int[Math.max(count, rows.length * 2)];
+            cols = new int[rows.length];
+        }
+    }
+
+    // Buffered little-endian decoding straight from the channel
+    private static final class Reader {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        Reader(FileChannel channel) throws IOException {
+            this.channel = channel;
+            buffer.flip();
+            fill();
+        }
+
+        boolean hasMore() throws IOException {
+            return buffer.hasRemaining() || fill();
+        }
+
+        byte readByte() throws IOException {
+            if (!hasMore()) {
+                throw new EOFException("Truncated event log");
+            }
+            return buffer.get();
+        }
+
+        int readInt() throws IOException {
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                value |= (readByte() & 0xFF) << (8 * i);
+            }
+            return value;
+        }
+
+        long readVarint() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Corrupt event log: varint too long");
+        }
+
+        // Refill after the unread bytes; false at end of file
+        private boolean fill() throws IOException {
+            buffer.compact();
+            int read = channel.read(buffer);
+            buffer.flip();
+            return read > 0 || buffer.hasRemaining();
+        }
+    }
+}
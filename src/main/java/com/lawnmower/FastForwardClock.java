@@ -0,0 +1,14 @@
+package com.lawnmower;
+
+// Clock that never waits, so ticks run as fast as the CPU allows
+public final class FastForwardClock implements SimulationClock {
+    static final FastForwardClock INSTANCE = new FastForwardClock();
+
+    private FastForwardClock() {
+    }
+
+    @Override
+    public void awaitTick(long tick) {
+        // Every tick is due immediately
+    }
+}
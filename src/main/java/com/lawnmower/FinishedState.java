@@ -1,14 +1,24 @@
 package com.lawnmower;
 
 public class FinishedState implements MowerState {
-    private LawnMower mower;
+    // States hold no data, so every mower shares one instance
+    public static final FinishedState INSTANCE = new FinishedState();
+    static final String MESSAGE = "Mowing completed!";
 
+    private FinishedState() {
+    }
+
+    // Kept for existing callers; the state no longer needs the mower
     public FinishedState(LawnMower mower) {
-        this.mower = mower;
+    }
+
+    @Override
+    public MowerStatus getStatus() {
+        return MowerStatus.FINISHED;
     }
 
     @Override
     public void execute() {
-        System.out.println("Mowing completed!");
+        MowerLog.info(MESSAGE);
     }
 }
@@ -0,0 +1,144 @@
+package com.lawnmower;
+
+// Row serpentine that only visits mowable cells. Lanes are walked run by run
+// from the lawn's traversability index, so a blocked span costs one jump to
+// the next run instead of a tick per obstacle cell. On an open lawn the
+// order is exactly that of the row serpentine.
+public class FreeRunSerpentinePath implements CoveragePath {
+    private final LawnState lawn;
+    private TraversabilityIndex index;
+    private int top;
+    private int left;
+    private int bottom;
+    private int right;
+    private long total;
+    private long position;
+    // Current lane, run within it and column along the run
+    private int lane;
+    private int run;
+    private int col;
+
+    public FreeRunSerpentinePath(LawnState lawn) {
+        if (lawn == null) {
+            throw new IllegalArgumentException("Lawn is required");
+        }
+        this.lawn = lawn;
+    }
+
+    // Picks up the lawn's current obstacles; obstacles added later are only
+    // seen after the next reset
+    @Override
+    public void reset(int top, int left, int bottom, int right) {
+        this.index = lawn.getTraversability();
+        this.top = Math.max(0, top);
+        this.left = Math.max(0, left);
+        this.bottom = Math.min(index.getRows(), bottom);
+        this.right = Math.min(index.getCols(), right);
+        long free = 0;
+        if (this.left < this.right) {
+            for (int row = this.top; row < this.bottom; row++) {
+                free += index.countFree(row, this.left, this.right);
+            }
+        }
+        this.total = free;
+        seek(0);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return position < total;
+    }
+
+    @Override
+    public long next() {
+        int row = top + lane;
+        long cell = CoveragePath.pack(row, col);
+        position++;
+        if ((lane & 1) == 0) {
+            if (++col >= Math.min(index.getRunTo(run), right)) {
+                run++;
+                if (run < index.endRun(row) && index.getRunFrom(run) < right) {
+                    col = index.getRunFrom(run);
+                } else {
+                    enterLane(lane + 1);
+                }
+            }
+        } else if (--col < Math.max(index.getRunFrom(run), left)) {
+            run--;
+            if (run >= index.firstRun(row) && index.getRunTo(run) > left) {
+                col = index.getRunTo(run) - 1;
+            } else {
+                enterLane(lane + 1);
+            }
+        }
+        return cell;
+    }
+
+    // Closed form of the path if the region had no obstacles at the last
+    // reset, when it is the plain row serpentine; otherwise null
+    SerpentineCoverage closedForm() {
+        long area = top < bottom && left < right ? (long) (bottom - top) * (right - left) : 0;
+        return total == area ? new SerpentineCoverage(top, left, bottom, right, true) : null;
+    }
+
+    @Override
+    public long position() {
+        return position;
+    }
+
+    @Override
+    public void seek(long position) {
+        this.position = Math.max(0, Math.min(position, total));
+        long remaining = this.position;
+        lane = 0;
+        // Skip whole lanes, then whole runs, then cells within the run
+        while (top + lane < bottom) {
+            int free = index.countFree(top + lane, left, right);
+            if (remaining < free) {
+                break;
+            }
+            remaining -= free;
+            lane++;
+        }
+        enterLane(lane);
+        while (remaining > 0) {
+            int length = (lane & 1) == 0
+                    ? Math.min(index.getRunTo(run), right) - col
+                    : col + 1 - Math.max(index.getRunFrom(run), left);
+            if (remaining < length) {
+                col += (lane & 1) == 0 ? (int) remaining : (int) -remaining;
+                return;
+            }
+            remaining -= length;
+            if ((lane & 1) == 0) {
+                run++;
+                col = index.getRunFrom(run);
+            } else {
+                run--;
+                col = index.getRunTo(run) - 1;
+            }
+        }
+    }
+
+    // Move to the first cell of the first non-empty lane from the given one
+    private void enterLane(int lane) {
+        this.lane = lane;
+        while (top + this.lane < bottom) {
+            int row = top + this.lane;
+            if ((this.lane & 1) == 0) {
+                run = index.runEndingAfter(row, left);
+                if (run < index.endRun(row) && index.getRunFrom(run) < right) {
+                    col = Math.max(index.getRunFrom(run), left);
+                    return;
+                }
+            } else {
+                run = index.runStartingBefore(row, right);
+                if (run >= index.firstRun(row) && index.getRunTo(run) > left) {
+                    col = Math.min(index.getRunTo(run), right) - 1;
+                    return;
+                }
+            }
+            this.lane++;
+        }
+    }
+}
@@ -1,16 +1,24 @@
 package com.lawnmower;
 
 public class IdleState implements MowerState {
-    private LawnMower mower;
+    // States hold no data, so every mower shares one instance
+    public static final IdleState INSTANCE = new IdleState();
+    static final String MESSAGE = "Mower is idle. Press Start to begin mowing.";
 
+    private IdleState() {
+    }
+
+    // Kept for existing callers; the state no longer needs the mower
     public IdleState(LawnMower mower) {
-        this.mower = mower;
+    }
+
+    @Override
+    public MowerStatus getStatus() {
+        return MowerStatus.IDLE;
     }
 
     @Override
     public void execute() {
-        System.out.println("Mower is idle. Press Start to begin mowing.");
+        MowerLog.info(MESSAGE);
     }
 }
-
-// Add MowingState, PausedState, FinishedState similarly.
\ No newline at end of file
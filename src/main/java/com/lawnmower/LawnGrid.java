@@ -4,47 +4,153 @@ import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.GridLayout;
+import java.awt.Rectangle;
 
 import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
 
 
 public class LawnGrid extends JPanel {
-    private int rows;
-    private int cols;
-    private Color[][] gridColors;
+    // How the grid is painted: DIRECT draws every visible cell with Graphics
+    // primitives, BUFFERED blits an offscreen image of the lawn
+    public enum RenderMode {
+        DIRECT,
+        BUFFERED
+    }
+
+    static final Color UNMOWED_COLOR = Color.RED;
+    static final Color MOWED_COLOR = Color.GREEN;
+    static final Color OBSTACLE_COLOR = Color.DARK_GRAY;
+    // Cells are repainted in square tiles of this many cells a side
+    private static final int DIRTY_TILE_SIZE = 8;
+
+    private final int rows;
+    private final int cols;
+    private final LawnState lawnState;
+    private final DirtyTileMap dirtyTiles;
+    private RenderMode renderMode = RenderMode.DIRECT;
+    private volatile LawnRaster raster; // Only kept in BUFFERED mode
 
     // Constructor
     public LawnGrid(int rows, int cols) {
-        // Validate input dimensions
-        if (rows <= 0 || cols <= 0) {
-            // Set minimum valid dimensions if invalid values are provided
-            this.rows = Math.max(1, rows);
-            this.cols = Math.max(1, cols);
-        } else {
-            this.rows = rows;
-            this.cols = cols;
-        }
-        
-        gridColors = new Color[this.rows][this.cols];
+        // Set minimum valid dimensions if invalid values are provided
+        this(new LawnState(Math.max(1, rows), Math.max(1, cols)));
+    }
 
-        // Initialize the grid with dark green (uncut grass)
-        for (int i = 0; i < this.rows; i++) {
-            for (int j = 0; j < this.cols; j++) {
-                gridColors[i][j] = Color.RED;
-            }
+    // Render an existing lawn model, e.g. one shared with a headless simulation
+    public LawnGrid(LawnState lawnState) {
+        if (lawnState == null || lawnState.getCellCount() == 0) {
+            throw new IllegalArgumentException("LawnGrid needs a non-empty lawn");
         }
+        this.lawnState = lawnState;
+        this.rows = lawnState.getRows();
+        this.cols = lawnState.getCols();
+        this.dirtyTiles = new DirtyTileMap(rows, cols, DIRTY_TILE_SIZE);
 
         // Set the layout to grid
         setLayout(new GridLayout(this.rows, this.cols));
         setPreferredSize(new Dimension(500, 500)); // Example size
     }
 
-    // Method to update a cell's color
+    public LawnState getLawnState() {
+        return lawnState;
+    }
+
+    public RenderMode getRenderMode() {
+        return renderMode;
+    }
+
+    // Switch rendering mode; the offscreen image is built from the lawn model.
+    // Call on the EDT before producers start updating cells: a cell updated
+    // while the image is being built may keep its old color until it changes
+    // again.
+    public void setRenderMode(RenderMode mode) {
+        if (mode == null || mode == renderMode) {
+            return;
+        }
+        if (mode == RenderMode.BUFFERED) {
+            LawnRaster buffered = new LawnRaster(rows, cols, UNMOWED_COLOR);
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < cols; j++) {
+                    if (lawnState.isObstacle(i, j)) {
+                        buffered.setCell(i, j, OBSTACLE_COLOR);
+                    } else if (lawnState.isMowed(i, j)) {
+                        buffered.setCell(i, j, MOWED_COLOR);
+                    }
+                }
+            }
+            raster = buffered;
+        } else {
+            raster = null;
+        }
+        renderMode = mode;
+        repaint();
+    }
+
+    LawnRaster getRaster() {
+        return raster;
+    }
+
+    // Method to update a cell's color. The lawn model only tracks mowed and
+    // unmowed cells: the unmowed color clears a cell, any other color marks it
+    // mowed. The exact color is kept when the grid is in BUFFERED mode.
+    // Safe from any number of threads without locking: the cell and its
+    // pixel are written atomically, then the repaint is queued through a
+    // lock-free dirty map. Pixel writes and the map are volatile, and the
+    // flush reads the pixels of each drained tile back before repainting,
+    // so the repaint that takes a tile sees every write made before it.
+    // A write the flush misses leaves the tile dirty for the next one.
     public void updateCell(int row, int col, Color color) {
-        if (row >= 0 && row < rows && col >= 0 && col < cols) {
-            gridColors[row][col] = color;
-            repaint(); // Trigger re-painting
+        if (color != null && row >= 0 && row < rows && col >= 0 && col < cols) {
+            if (UNMOWED_COLOR.equals(color)) {
+                lawnState.clear(row, col);
+            } else {
+                lawnState.mow(row, col);
+            }
+            LawnRaster buffered = raster;
+            if (buffered != null) {
+                buffered.setCell(row, col, color);
+            }
+            markDirty(row, col);
+        }
+    }
+
+    // Queue a cell for repainting; the first dirty cell of a frame schedules
+    // one flush on the EDT, and every cell changed before it runs is merged
+    private void markDirty(int row, int col) {
+        if (dirtyTiles.mark(row, col)) {
+            SwingUtilities.invokeLater(this::flushDirtyRegions);
+        }
+    }
+
+    // Repaint only the dirty tiles
+    void flushDirtyRegions() {
+        LawnRaster buffered = raster;
+        for (Rectangle region : dirtyTiles.drain()) {
+            if (buffered != null) {
+                buffered.acquireRegion(region);
+            }
+            Rectangle pixels = toPixels(region);
+            repaint(pixels.x, pixels.y, pixels.width, pixels.height);
+        }
+    }
+
+    // Panel pixels showing a region of cells. Whole cells with grid lines
+    // when a cell is at least a pixel; otherwise the region is scaled like
+    // the image in paintBuffered, rounding outward so no cell is left out.
+    Rectangle toPixels(Rectangle region) {
+        int cellWidth = getWidth() / cols;
+        int cellHeight = getHeight() / rows;
+        if (cellWidth > 0 && cellHeight > 0) {
+            // One extra pixel covers the grid line on the right and bottom edge
+            return new Rectangle(region.x * cellWidth, region.y * cellHeight,
+                    region.width * cellWidth + 1, region.height * cellHeight + 1);
         }
+        int left = (int) ((long) region.x * getWidth() / cols);
+        int top = (int) ((long) region.y * getHeight() / rows);
+        int right = (int) (((long) (region.x + region.width) * getWidth() + cols - 1) / cols);
+        int bottom = (int) (((long) (region.y + region.height) * getHeight() + rows - 1) / rows);
+        return new Rectangle(left, top, Math.max(1, right - left), Math.max(1, bottom - top));
     }
 
     // Override paintComponent to draw the grid
@@ -52,16 +158,57 @@ public class LawnGrid extends JPanel {
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
 
+        LawnRaster buffered = raster;
+        if (buffered != null) {
+            paintBuffered(g, buffered);
+            return;
+        }
+
         int cellWidth = getWidth() / cols;
         int cellHeight = getHeight() / rows;
+        if (cellWidth == 0 || cellHeight == 0) {
+            return; // Too small to show any cell
+        }
+
+        // Only paint the cells inside the clip, so a partial repaint costs
+        // as much as the cells that changed rather than the whole lawn
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        // Cells whose grid line touches the clip are included as well
+        int firstRow = Math.max(0, (clip.y - 1) / cellHeight);
+        int lastRow = Math.min(rows - 1, (clip.y + clip.height) / cellHeight);
+        int firstCol = Math.max(0, (clip.x - 1) / cellWidth);
+        int lastCol = Math.min(cols - 1, (clip.x + clip.width) / cellWidth);
 
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                g.setColor(gridColors[i][j]);
+        for (int i = firstRow; i <= lastRow; i++) {
+            for (int j = firstCol; j <= lastCol; j++) {
+                g.setColor(colorOf(i, j));
                 g.fillRect(j * cellWidth, i * cellHeight, cellWidth, cellHeight);
                 g.setColor(Color.BLACK); // Grid line color
                 g.drawRect(j * cellWidth, i * cellHeight, cellWidth, cellHeight);
             }
         }
     }
+
+    private Color colorOf(int row, int col) {
+        if (lawnState.isObstacle(row, col)) {
+            return OBSTACLE_COLOR;
+        }
+        return lawnState.isMowed(row, col) ? MOWED_COLOR : UNMOWED_COLOR;
+    }
+
+    // Blit the offscreen lawn, scaled to the cell size, plus the cached grid
+    // lines. Lawns with more cells than pixels are scaled to fit, without lines.
+    private void paintBuffered(Graphics g, LawnRaster buffered) {
+        int cellWidth = getWidth() / cols;
+        int cellHeight = getHeight() / rows;
+        if (cellWidth == 0 || cellHeight == 0) {
+            g.drawImage(buffered.getLawnImage(), 0, 0, getWidth(), getHeight(), null);
+            return;
+        }
+        g.drawImage(buffered.getLawnImage(), 0, 0, cols * cellWidth, rows * cellHeight, null);
+        g.drawImage(buffered.getGridLines(cellWidth, cellHeight), 0, 0, null);
+    }
 }
@@ -1,100 +1,604 @@
 package com.lawnmower;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
 
 public class LawnMower {
-    private int rows;
-    private int cols;
+    private final int rows;
+    private final int cols;
+    private final LawnState lawn; // Shared lawn whose cells are claimed, or null
+    // Region this mower covers: rows [top, bottom), columns [left, right)
+    private int top;
+    private int left;
+    private int bottom;
+    private int right;
+    private CoveragePath path;
+    // Cell the mower is standing on and the direction it arrived from
     private int currentRow;
     private int currentCol;
-    private boolean mowing;
-    private List<MowerObserver> observers = new ArrayList<>();
-    private Timer timer;
+    private int headingRow;
+    private int headingCol;
+    private volatile MowerState state = IdleState.INSTANCE;
+    private boolean timerDriven; // Whether resume() restarts the timer
+    private final ObserverRegistry observers = new ObserverRegistry();
+    private TickScheduler scheduler = TickScheduler.shared();
+    private long tickPeriodNanos = TimeUnit.SECONDS.toNanos(1); // Mows every second
+    private TickScheduler.Ticket ticket; // Scheduled by start(), never for headless runs
+    private volatile int timerGeneration; // Ticks of an older schedule do nothing
+    // Held for the whole of a scheduled tick, so a tick still running when
+    // the mower is paused or rescheduled never overlaps one of the new
+    // schedule, and by every status change, so observers get a tick's cells
+    // before the change. Taken before the mower's own lock, never while
+    // holding it.
+    private final Object tickLock = new Object();
+
+    // Cells mowed since observers were last notified
+    private int[] batchRows = new int[1];
+    private int[] batchCols = new int[1];
+    private int batchCount;
+
+    // Per-mower statistics, written by the thread that steps the mower
+    private long cellsMowed;
+    private long duplicateClaims;
+    private long mowingDistance;
+    private long transitDistance;
+    private long relocations;
+    private long turns;
+    // Completed ticks; written last in each tick, so reading it first makes
+    // the counters above visible to other threads
+    private volatile long ticks;
+    private final MowerMetrics metrics = new MowerMetrics(this);
 
     // Constructor
     public LawnMower(int rows, int cols) {
+        this(rows, cols, null);
+    }
+
+    // Mower working on a lawn shared with other mowers. Each cell is claimed
+    // atomically, so no cell is mowed (or reported to observers) twice.
+    // Obstacles on the lawn are driven around rather than mowed.
+    public LawnMower(LawnState lawn) {
+        this(lawn.getRows(), lawn.getCols(), lawn);
+    }
+
+    private LawnMower(int rows, int cols, LawnState lawn) {
         this.rows = rows;
         this.cols = cols;
-        this.currentRow = 0;
-        this.currentCol = 0;
-        this.mowing = false;
-        this.timer = new Timer();
+        this.lawn = lawn;
+        this.path = lawn == null ? CoverageStrategy.ROW_SERPENTINE.create() : new FreeRunSerpentinePath(lawn);
+        assign(0, 0, rows, cols);
+    }
+
+    // Restrict the mower to rows [top, bottom) and columns [left, right) and
+    // restart its coverage path there. The mower drives from where it stands
+    // to the region's first cell, which counts as transit. Call while stopped.
+    public void assign(int top, int left, int bottom, int right) {
+        this.top = top;
+        this.left = left;
+        this.bottom = bottom;
+        this.right = right;
+        path.reset(top, left, bottom, right);
+        reopen();
+    }
+
+    // Choose the order in which cells are visited; the path restarts on the
+    // current region. Call while the mower is stopped.
+    public void setCoveragePath(CoveragePath path) {
+        if (path == null) {
+            throw new IllegalArgumentException("Coverage path is required");
+        }
+        this.path = path;
+        path.reset(top, left, bottom, right);
+        reopen();
     }
 
-    // Add an observer
+    // A finished mower given new work is idle again
+    private void reopen() {
+        transition(MowerEvent.RESET, null);
+    }
+
+    public CoveragePath getCoveragePath() {
+        return path;
+    }
+
+    // Cells of the current region handed out by the coverage path so far
+    public long getPathPosition() {
+        return path.position();
+    }
+
+    // Continue an interrupted run: the path skips the cells already covered
+    // and the mower stands where it stopped. Call while stopped, after assign.
+    void resumeAt(long pathPosition, int row, int col, long mowed) {
+        path.seek(pathPosition);
+        currentRow = row;
+        currentCol = col;
+        headingRow = 0;
+        headingCol = 0;
+        cellsMowed = mowed;
+    }
+
+    // Add an observer; safe to call from any thread, even while mowing
     public void addObserver(MowerObserver observer) {
-        if (observer != null) {
-            observers.add(observer);
+        observers.add(observer);
+    }
+
+    // Remove an observer; returns false if it was not registered
+    public boolean removeObserver(MowerObserver observer) {
+        boolean removed = observers.remove(observer);
+        if (removed) {
+            metrics.forget(observer);
+        }
+        return removed;
+    }
+
+    // Set how many mowed cells are collected before observers are notified.
+    // Call while the mower is stopped; the default of 1 notifies every tick.
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1: " + batchSize);
+        }
+        flushBatch();
+        batchRows = new int[batchSize];
+        batchCols = new int[batchSize];
+    }
+
+    public int getBatchSize() {
+        return batchRows.length;
+    }
+
+    // Deliver any cells still waiting in a partial batch. Call from the thread
+    // that steps the mower.
+    public void flushBatch() {
+        synchronized (tickLock) {
+            if (batchCount > 0) {
+                int count = batchCount;
+                batchCount = 0;
+                notifyObservers(batchRows, batchCols, count);
+            }
+        }
+    }
+
+    // Queue a mowed cell, notifying observers once the batch is full
+    private void recordMowed(int row, int col) {
+        batchRows[batchCount] = row;
+        batchCols[batchCount] = col;
+        if (++batchCount == batchRows.length) {
+            flushBatch();
+        }
+    }
+
+    // Notify all observers registered when the batch is delivered, timing
+    // each one if histograms are on; one clock read per observer
+    private void notifyObservers(int[] rows, int[] cols, int count) {
+        MowerObserver[] current = observers.snapshot();
+        LatencyHistogram[] latency = metrics.observerHistograms(current);
+        if (latency == null) {
+            for (MowerObserver observer : current) {
+                observer.onCellsMowed(rows, cols, count);
+            }
+            return;
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < current.length; i++) {
+            current[i].onCellsMowed(rows, cols, count);
+            long end = System.nanoTime();
+            latency[i].record(end - start);
+            start = end;
         }
     }
 
-    // Notify all observers
-    private void notifyObservers(int row, int col) {
-        for (MowerObserver observer : observers) {
-            if (observer != null) {
-                observer.onCellMowed(row, col);
+    private void notifyStatus(MowerStatus status) {
+        for (MowerObserver observer : observers.snapshot()) {
+            observer.onStatusChanged(status);
+        }
+    }
+
+    // Apply an event to the state machine; enters the next state, runs
+    // onEnter (if any) with it, announces it and tells observers. Returns
+    // false if the event does not apply. Takes the tick lock first, so a
+    // tick already running finishes and delivers its cells before observers
+    // hear of the change. The state changes under the mower's monitor, but
+    // the announcement and observers run after it is released, so they may
+    // log, do I/O or call into other mowers; the tick lock keeps changes
+    // reaching observers in order.
+    private boolean transition(MowerEvent event, Runnable onEnter) {
+        synchronized (tickLock) {
+            MowerState next;
+            synchronized (this) {
+                next = MowerStateMachine.next(state, event);
+                if (event == MowerEvent.START && state == PausedState.INSTANCE && !timerDriven) {
+                    // The caller stepping this mower continues it with
+                    // resume(); a timer would step it from a second thread
+                    next = null;
+                }
+                if (next == null) {
+                    return false;
+                }
+                state = next;
+                if (onEnter != null) {
+                    onEnter.run();
+                }
+                notifyAll(); // Wake a paused simulation engine
             }
+            next.execute();
+            notifyStatus(next.getStatus());
+            return true;
         }
     }
 
-    // Start mowing
+    // Start mowing, or continue a paused timer-driven mower. A mower paused
+    // while a SimulationEngine or MowerThread drives it ignores this and is
+    // continued with resume().
     public void start() {
-        if (!mowing) {
-            mowing = true;
-            timer.scheduleAtFixedRate(new TimerTask() {
-                @Override
-                public void run() {
+        transition(MowerEvent.START, () -> {
+            timerDriven = true;
+            scheduleTimer();
+        });
+    }
+
+    // Stop mowing; start() continues from the same cell
+    public void stop() {
+        transition(MowerEvent.STOP, this::cancelTimer);
+    }
+
+    // Hold the mower where it is, keeping its place on the coverage path
+    public void pause() {
+        transition(MowerEvent.PAUSE, this::cancelTimer);
+    }
+
+    // Continue after pause(), ticking the same way as before the pause
+    public void resume() {
+        transition(MowerEvent.RESUME, () -> {
+            if (timerDriven) {
+                scheduleTimer();
+            }
+        });
+    }
+
+    // Start mowing without scheduling ticks; the caller drives step()
+    void begin() {
+        transition(MowerEvent.START, () -> timerDriven = false);
+    }
+
+    // Block while the mower is paused
+    synchronized void awaitResume() throws InterruptedException {
+        while (state == PausedState.INSTANCE) {
+            wait();
+        }
+    }
+
+    // The coverage path is done
+    private void finish() {
+        transition(MowerEvent.FINISH, this::cancelTimer);
+    }
+
+    // Time between ticks of start(). If the mower is ticking, the next tick
+    // runs one new period after the last one.
+    public synchronized void setTickPeriod(long periodMillis) {
+        if (periodMillis < 1) {
+            throw new IllegalArgumentException("Tick period must be at least 1 ms: " + periodMillis);
+        }
+        tickPeriodNanos = TimeUnit.MILLISECONDS.toNanos(periodMillis);
+        if (ticket != null) {
+            long lastDue = ticket.getLastDueNanos();
+            long nextDue = ticket.getTicks() == 0 ? lastDue : lastDue + tickPeriodNanos;
+            scheduleTimer(Math.max(0, nextDue - System.nanoTime()));
+        }
+    }
+
+    public long getTickPeriodMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(tickPeriodNanos);
+    }
+
+    // Tick service start() uses; the shared one unless set. Call while stopped.
+    public synchronized void setScheduler(TickScheduler scheduler) {
+        if (scheduler == null) {
+            throw new IllegalArgumentException("Tick scheduler is required");
+        }
+        this.scheduler = scheduler;
+    }
+
+    // Replace any running schedule with one at the current period
+    private void scheduleTimer() {
+        scheduleTimer(0);
+    }
+
+    private void scheduleTimer(long initialDelayNanos) {
+        cancelTimer();
+        int generation = ++timerGeneration;
+        ticket = scheduler.schedule(() -> {
+            synchronized (tickLock) {
+                if (timerGeneration == generation) {
                     mow();
+                    flushBatch();
                 }
-            }, 0, 1000); // Mows every second
+            }
+        }, initialDelayNanos, tickPeriodNanos, metrics::recordTickJitter);
+    }
+
+    private void cancelTimer() {
+        if (ticket != null) {
+            timerGeneration++;
+            ticket.cancel();
+            ticket = null;
         }
     }
 
-    // Stop mowing
-    public void stop() {
-        if (mowing) {
-            mowing = false;
-            timer.cancel();
-            timer = new Timer(); // Reset the timer for future use
+    // Run a single mowing tick; returns whether the mower is still mowing.
+    // Holds the tick lock, so it never overlaps a scheduled tick.
+    public boolean step() {
+        synchronized (tickLock) {
+            mow();
         }
+        return isMowing();
     }
 
-    // Mow the current cell and move to the next
+    // Run one tick if mowing
     private void mow() {
-        if (!mowing) return;
+        if (state != MowingState.INSTANCE) return;
+        mowNextCell();
+        ticks++; // Only the stepping thread writes
+    }
+
+    // Run up to maxTicks ticks at once; returns the ticks run. On a serpentine
+    // path over an obstacle-free region with no observers registered the
+    // ticks are not stepped: position, counters and the shared lawn's bitmap
+    // are advanced arithmetically, claiming a lane segment at a time as
+    // atomically as tryMow, so mowers sharing the lawn still count each cell
+    // once. Otherwise this is step() in a loop. Call from the thread that
+    // steps the mower.
+    public long advance(long maxTicks) {
+        long ran = 0;
+        SerpentineCoverage closed = closedForm();
+        // The first tick drives onto the path; after it every move is one cell
+        while (ran < maxTicks && isMowing() && (closed == null || path.position() == 0)) {
+            step();
+            ran++;
+        }
+        if (closed != null && ran < maxTicks) {
+            synchronized (tickLock) {
+                long count = Math.min(maxTicks - ran, closed.remainingTicks(path.position()));
+                if (count > 0 && isMowing()) {
+                    skip(closed, count);
+                    ran += count;
+                }
+            }
+        }
+        return ran;
+    }
 
-        // Notify observers to update the grid
-        notifyObservers(currentRow, currentCol);
+    private SerpentineCoverage closedForm() {
+        if (!observers.isEmpty() || (lawn != null && lawn.hasObstacles())) {
+            return null;
+        }
+        if (path.getClass() == SerpentinePath.class) {
+            return ((SerpentinePath) path).closedForm();
+        }
+        if (path.getClass() == FreeRunSerpentinePath.class) {
+            return ((FreeRunSerpentinePath) path).closedForm();
+        }
+        return null;
+    }
 
-        // Move to the next cell
-        if (currentRow % 2 == 0) { // Even row: move left to right
-            currentCol++;
-            if (currentCol >= cols) { // Reached the right edge
-                currentCol = cols - 1;
-                moveToNextRow();
+    // The next count ticks of the closed-form path in one go
+    private void skip(SerpentineCoverage closed, long count) {
+        long from = path.position();
+        long to = from + count;
+        long first = closed.cellAt(from);
+        int stepRow = Integer.signum(CoveragePath.row(first) - currentRow);
+        int stepCol = Integer.signum(CoveragePath.col(first) - currentCol);
+        if ((headingRow != 0 || headingCol != 0) && (stepRow != headingRow || stepCol != headingCol)) {
+            turns++;
+        }
+        turns += closed.turnsBefore(to - 1) - closed.turnsBefore(from);
+        long last = closed.cellAt(to - 1);
+        if (to - 1 > from) {
+            long previous = closed.cellAt(to - 2);
+            stepRow = Integer.signum(CoveragePath.row(last) - CoveragePath.row(previous));
+            stepCol = Integer.signum(CoveragePath.col(last) - CoveragePath.col(previous));
+        }
+        headingRow = stepRow;
+        headingCol = stepCol;
+        currentRow = CoveragePath.row(last);
+        currentCol = CoveragePath.col(last);
+        mowingDistance += count;
+
+        long claimed = lawn == null ? count : closed.markMowed(lawn, from, to);
+        cellsMowed += claimed;
+        duplicateClaims += count - claimed;
+        path.seek(to);
+        ticks += count;
+        if (!path.hasNext()) {
+            finish();
+        }
+    }
+
+    // Move to the next cell on the coverage path and mow it
+    private void mowNextCell() {
+        if (!path.hasNext()) { // Nothing (left) to mow
+            finish();
+            return;
+        }
+
+        long cell = path.next();
+        // Paths that are not obstacle-aware may lead onto an obstacle; skip it
+        // without spending a tick
+        while (lawn != null && lawn.isObstacle(CoveragePath.row(cell), CoveragePath.col(cell))) {
+            if (!path.hasNext()) {
+                flushBatch();
+                finish();
+                return;
             }
-        } else { // Odd row: move right to left
-            currentCol--;
-            if (currentCol < 0) { // Reached the left edge
-                currentCol = 0;
-                moveToNextRow();
+            cell = path.next();
+        }
+        moveTo(CoveragePath.row(cell), CoveragePath.col(cell));
+
+        // Claim the cell on a shared lawn, then notify observers to update the grid
+        if (lawn == null || lawn.tryMow(currentRow, currentCol)) {
+            cellsMowed++;
+            recordMowed(currentRow, currentCol);
+        } else {
+            duplicateClaims++;
+        }
+
+        if (!path.hasNext()) {
+            flushBatch();
+            finish(); // Finished mowing
+        }
+    }
+
+    // Drive to the given cell. Anything beyond the neighbouring cell is
+    // transit; a change of direction counts as a turn.
+    private void moveTo(int row, int col) {
+        int deltaRow = row - currentRow;
+        int deltaCol = col - currentCol;
+        int distance = Math.abs(deltaRow) + Math.abs(deltaCol);
+        if (distance > 1) {
+            transitDistance += transitLength(row, col, distance) - 1;
+        }
+        if (distance > 0) {
+            mowingDistance++;
+            int stepRow = Integer.signum(deltaRow);
+            int stepCol = Integer.signum(deltaCol);
+            if ((headingRow != 0 || headingCol != 0) && (stepRow != headingRow || stepCol != headingCol)) {
+                turns++;
             }
+            headingRow = stepRow;
+            headingCol = stepCol;
         }
+        currentRow = row;
+        currentCol = col;
     }
 
-    // Move to the next row or stop if finished
-    private void moveToNextRow() {
-        currentRow++;
-        if (currentRow >= rows) {
-            stop(); // Finished mowing
+    // Cells driven to reach the given cell. On a lawn with obstacles the
+    // coverage path may dead-end, and the way to its next cell is planned
+    // around them; cells the mower cannot drive to are reached by being
+    // carried there, counted as a relocation.
+    private int transitLength(int row, int col, int straight) {
+        if (lawn == null || !lawn.hasObstacles()) {
+            return straight;
         }
+        if (!lawn.getTraversability().isConnected(currentRow, currentCol, row, col)) {
+            relocations++;
+            return straight;
+        }
+        int length = TransitPlanner.forCurrentThread(lawn).distance(currentRow, currentCol, row, col);
+        return length < 0 ? straight : length;
+    }
+
+    // Ticks run while mowing, including the one that found the path done
+    public long getTicks() {
+        return ticks;
+    }
+
+    // Counters, coverage and latency histograms of this mower
+    public MowerMetrics getMetrics() {
+        return metrics;
     }
 
     // Get mowing state
     public boolean isMowing() {
-        return mowing;
+        return state == MowingState.INSTANCE;
+    }
+
+    public MowerState getState() {
+        return state;
+    }
+
+    public MowerStatus getStatus() {
+        return state.getStatus();
+    }
+
+    // Everything but the observers and the coverage path's type, for
+    // snapshots. Call between ticks from the thread stepping the mower; cells
+    // waiting in a partial batch are not included.
+    void writeState(ByteBuffer out) {
+        out.putInt(top).putInt(left).putInt(bottom).putInt(right);
+        out.putLong(path.position());
+        out.putInt(currentRow).putInt(currentCol);
+        out.put((byte) headingRow).put((byte) headingCol);
+        out.put((byte) state.getStatus().ordinal());
+        out.putInt(batchRows.length);
+        out.putLong(cellsMowed).putLong(duplicateClaims).putLong(mowingDistance);
+        out.putLong(transitDistance).putLong(relocations).putLong(turns);
+        out.putLong(ticks).putLong(tickPeriodNanos);
+    }
+
+    // Restore what writeState saved into a mower without observers. A mower
+    // saved while mowing comes back idle; other states are kept.
+    void readState(ByteBuffer in) {
+        assign(in.getInt(), in.getInt(), in.getInt(), in.getInt());
+        path.seek(in.getLong());
+        currentRow = in.getInt();
+        currentCol = in.getInt();
+        headingRow = in.get();
+        headingCol = in.get();
+        MowerStatus saved = MowerStatus.values()[in.get()];
+        state = MowerStateMachine.stateFor(saved == MowerStatus.MOWING ? MowerStatus.IDLE : saved);
+        setBatchSize(in.getInt());
+        cellsMowed = in.getLong();
+        duplicateClaims = in.getLong();
+        mowingDistance = in.getLong();
+        transitDistance = in.getLong();
+        relocations = in.getLong();
+        turns = in.getLong();
+        ticks = in.getLong();
+        long period = in.getLong();
+        if (period < TimeUnit.MILLISECONDS.toNanos(1)) {
+            throw new IllegalArgumentException("Corrupt tick period: " + period + " ns");
+        }
+        tickPeriodNanos = period;
+    }
+
+    // Cell the mower is standing on
+    public int getCurrentRow() {
+        return currentRow;
+    }
+
+    public int getCurrentCol() {
+        return currentCol;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    // Shared lawn this mower claims cells on, or null for a standalone mower
+    public LawnState getLawn() {
+        return lawn;
+    }
+
+    // Cells this mower mowed itself
+    public long getCellsMowed() {
+        return cellsMowed;
+    }
+
+    // Moves onto the cell being mowed, excluding the transit before them
+    public long getMowingDistance() {
+        return mowingDistance;
+    }
+
+    // Cells travelled between regions without mowing
+    public long getTransitDistance() {
+        return transitDistance;
+    }
+
+    // Moves to cells the mower had no drivable way to reach
+    public long getRelocations() {
+        return relocations;
+    }
+
+    // Changes of direction while mowing
+    public long getTurns() {
+        return turns;
+    }
+
+    // Cells this mower reached after another mower had already claimed them
+    public long getDuplicateClaims() {
+        return duplicateClaims;
     }
 }
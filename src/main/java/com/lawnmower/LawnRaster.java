@@ -0,0 +1,88 @@
+package com.lawnmower;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+// Offscreen copy of the lawn with one pixel per cell. Cell updates are
+// volatile writes into the image's int[] raster, so any thread may make
+// them; the painting thread reads a region back with acquireRegion before
+// repainting it. The grid lines, which never change, are kept in a
+// separate overlay image that is only rebuilt on resize.
+public class LawnRaster {
+    private static final VarHandle PIXELS = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final int rows;
+    private final int cols;
+    private final BufferedImage lawnImage;
+    private final int[] pixels;
+
+    private BufferedImage gridLines;
+    private int gridCellWidth;
+    private int gridCellHeight;
+
+    public LawnRaster(int rows, int cols, Color background) {
+        this.rows = rows;
+        this.cols = cols;
+        this.lawnImage = new BufferedImage(cols, rows, BufferedImage.TYPE_INT_RGB);
+        this.pixels = ((DataBufferInt) lawnImage.getRaster().getDataBuffer()).getData();
+        Arrays.fill(pixels, background.getRGB());
+    }
+
+    // Write one cell straight into the raster
+    public void setCell(int row, int col, Color color) {
+        PIXELS.setVolatile(pixels, row * cols + col, color.getRGB());
+    }
+
+    // Read the cells of a region (x = column, y = row) with volatile reads,
+    // so painting afterwards on this thread sees every write to them that
+    // came before
+    void acquireRegion(Rectangle cells) {
+        for (int row = cells.y; row < cells.y + cells.height; row++) {
+            int base = row * cols;
+            for (int col = cells.x; col < cells.x + cells.width; col++) {
+                PIXELS.getVolatile(pixels, base + col);
+            }
+        }
+    }
+
+    int getCell(int row, int col) {
+        return pixels[row * cols + col] | 0xFF000000;
+    }
+
+    // Image of the lawn, one pixel per cell
+    public BufferedImage getLawnImage() {
+        return lawnImage;
+    }
+
+    // Transparent image holding the black cell borders for the given cell size
+    public BufferedImage getGridLines(int cellWidth, int cellHeight) {
+        if (gridLines == null || cellWidth != gridCellWidth || cellHeight != gridCellHeight) {
+            gridLines = drawGridLines(cellWidth, cellHeight);
+            gridCellWidth = cellWidth;
+            gridCellHeight = cellHeight;
+        }
+        return gridLines;
+    }
+
+    private BufferedImage drawGridLines(int cellWidth, int cellHeight) {
+        int width = cols * cellWidth + 1;
+        int height = rows * cellHeight + 1;
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.BLACK); // Grid line color
+        for (int i = 0; i <= rows; i++) {
+            g.drawLine(0, i * cellHeight, width - 1, i * cellHeight);
+        }
+        for (int j = 0; j <= cols; j++) {
+            g.drawLine(j * cellWidth, 0, j * cellWidth, height - 1);
+        }
+        g.dispose();
+        return image;
+    }
+}
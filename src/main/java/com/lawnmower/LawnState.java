@@ -0,0 +1,428 @@
+package com.lawnmower;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+// Mowed/unmowed state of every cell, packed one bit per cell into a long[]
+// in row-major order. Obstacles (flower beds, trees, sheds) live in a second
+// bitmask of the same shape, allocated on the first obstacle; an obstacle
+// cell is never mowed. This is the lawn model; it has no AWT or Swing
+// dependency, so headless simulations never load a UI class.
+public class LawnState implements MowerObserver {
+    private static final long WORD_MASK = 0xFFFFFFFFFFFFFFFFL;
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final int rows;
+    private final int cols;
+    private final long[] words;
+    private long[] obstacles; // null while the lawn is fully open
+    private long obstacleCount;
+    private volatile TraversabilityIndex traversability; // Built on demand
+
+    // Constructor
+    public LawnState(int rows, int cols) {
+        // Negative dimensions describe an empty lawn
+        this.rows = Math.max(0, rows);
+        this.cols = Math.max(0, cols);
+
+        long wordCount = ((long) this.rows * this.cols + 63) >>> 6;
+        if (wordCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Lawn too large: " + rows + "x" + cols);
+        }
+        this.words = new long[(int) wordCount];
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    // Total number of cells on the lawn
+    public long getCellCount() {
+        return (long) rows * cols;
+    }
+
+    public boolean contains(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols;
+    }
+
+    public boolean isMowed(int row, int col) {
+        if (!contains(row, col)) {
+            return false;
+        }
+        long bit = index(row, col);
+        // Acquire pairs with the atomic writes, so a renderer sees cells
+        // mowed by other threads
+        return ((long) WORDS.getAcquire(words, (int) (bit >>> 6)) & (1L << bit)) != 0;
+    }
+
+    // Mark a cell as mowed; out-of-bounds and obstacle cells are ignored.
+    // The bit is set atomically, so threads updating neighbouring cells of
+    // the same word never lose each other's writes.
+    public void mow(int row, int col) {
+        if (contains(row, col)) {
+            long bit = index(row, col);
+            if (!isSet(obstacles, bit)) {
+                WORDS.getAndBitwiseOr(words, (int) (bit >>> 6), 1L << bit);
+            }
+        }
+    }
+
+    // Atomically claim a cell for a mower sharing this lawn with others.
+    // Returns true only for the one caller that changed it to mowed; writers
+    // racing on the same lawn must all claim through this method.
+    public boolean tryMow(int row, int col) {
+        if (!contains(row, col)) {
+            return false;
+        }
+        long bit = index(row, col);
+        if (isSet(obstacles, bit)) {
+            return false;
+        }
+        long mask = 1L << bit;
+        long previous = (long) WORDS.getAndBitwiseOr(words, (int) (bit >>> 6), mask);
+        return (previous & mask) == 0;
+    }
+
+    // Mark a cell as unmowed again, atomically like mow; out-of-bounds cells
+    // are ignored
+    public void clear(int row, int col) {
+        if (contains(row, col)) {
+            long bit = index(row, col);
+            WORDS.getAndBitwiseAnd(words, (int) (bit >>> 6), ~(1L << bit));
+        }
+    }
+
+    // Mark columns [fromCol, toCol) of a row as mowed, a word at a time.
+    // Obstacles in the range stay unmowed. Words are written plainly, so no
+    // other thread may update the row meanwhile.
+    public void mowRange(int row, int fromCol, int toCol) {
+        if (row < 0 || row >= rows) {
+            return;
+        }
+        int from = Math.max(0, fromCol);
+        int to = Math.min(cols, toCol);
+        if (from < to) {
+            long start = index(row, from);
+            long end = index(row, to);
+            setBits(words, start, end);
+            if (obstacles != null) {
+                clearBits(words, obstacles, start, end);
+            }
+        }
+    }
+
+    // Atomically claim columns [fromCol, toCol) of a row, a word at a time,
+    // like tryMow does for one cell. Obstacles in the range stay unmowed.
+    // Returns how many cells this call changed to mowed, so mowers claiming
+    // overlapping ranges at once count every cell exactly once.
+    public int claimRange(int row, int fromCol, int toCol) {
+        if (row < 0 || row >= rows) {
+            return 0;
+        }
+        int from = Math.max(0, fromCol);
+        int to = Math.min(cols, toCol);
+        if (from >= to) {
+            return 0;
+        }
+        long start = index(row, from);
+        long end = index(row, to);
+        int first = (int) (start >>> 6);
+        int last = (int) ((end - 1) >>> 6);
+        int claimed = 0;
+        for (int i = first; i <= last; i++) {
+            long range = WORD_MASK;
+            if (i == first) {
+                range &= WORD_MASK << start;
+            }
+            if (i == last) {
+                range &= WORD_MASK >>> -end;
+            }
+            if (obstacles != null) {
+                range &= ~obstacles[i];
+            }
+            if (range != 0) {
+                long previous = (long) WORDS.getAndBitwiseOr(words, i, range);
+                claimed += Long.bitCount(range & ~previous);
+            }
+        }
+        return claimed;
+    }
+
+    // Mark a whole row as mowed
+    public void mowRow(int row) {
+        mowRange(row, 0, cols);
+    }
+
+    // Mark a whole row as unmowed
+    public void clearRow(int row) {
+        if (row >= 0 && row < rows && cols > 0) {
+            clearBits(words, null, index(row, 0), index(row, cols));
+        }
+    }
+
+    // Number of mowed cells in columns [fromCol, toCol) of a row
+    public int countRange(int row, int fromCol, int toCol) {
+        if (row < 0 || row >= rows) {
+            return 0;
+        }
+        int from = Math.max(0, fromCol);
+        int to = Math.min(cols, toCol);
+        return from < to ? (int) countBits(words, index(row, from), index(row, to)) : 0;
+    }
+
+    // Number of mowed cells in a row
+    public int countRow(int row) {
+        return countRange(row, 0, cols);
+    }
+
+    // Whether every mowable cell of the row is mowed
+    public boolean isRowMowed(int row) {
+        if (row < 0 || row >= rows) {
+            return false;
+        }
+        int blocked = obstacles == null ? 0 : (int) countBits(obstacles, index(row, 0), index(row, cols));
+        return countRow(row) == cols - blocked;
+    }
+
+    // Number of mowed cells on the whole lawn
+    public long getMowedCount() {
+        long count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    // Percentage of the mowable lawn that has been mowed, from 0 to 100
+    public double getPercentMowed() {
+        long mowable = getMowableCount();
+        return mowable == 0 ? 100.0 : getMowedCount() * 100.0 / mowable;
+    }
+
+    public boolean isFullyMowed() {
+        return getMowedCount() == getMowableCount();
+    }
+
+    // Mark every cell as unmowed
+    public void clearAll() {
+        Arrays.fill(words, 0L);
+    }
+
+    // Turn a cell into an obstacle; it can no longer be mowed
+    public void setObstacle(int row, int col) {
+        addObstacle(row, col, row + 1, col + 1);
+    }
+
+    // Turn rows [top, bottom) x columns [left, right) into an obstacle
+    public void addObstacle(int top, int left, int bottom, int right) {
+        int from = Math.max(0, left);
+        int to = Math.min(cols, right);
+        if (from >= to) {
+            return;
+        }
+        if (obstacles == null) {
+            obstacles = new long[words.length];
+        }
+        for (int row = Math.max(0, top); row < Math.min(rows, bottom); row++) {
+            long start = index(row, from);
+            long end = index(row, to);
+            obstacleCount += (end - start) - countBits(obstacles, start, end);
+            setBits(obstacles, start, end);
+            clearBits(words, null, start, end);
+        }
+        traversability = null;
+    }
+
+    // Make a cell mowable again
+    public void clearObstacle(int row, int col) {
+        if (isObstacle(row, col)) {
+            long bit = index(row, col);
+            obstacles[(int) (bit >>> 6)] &= ~(1L << bit);
+            obstacleCount--;
+            traversability = null;
+        }
+    }
+
+    public boolean isObstacle(int row, int col) {
+        return contains(row, col) && isSet(obstacles, index(row, col));
+    }
+
+    public boolean hasObstacles() {
+        return obstacleCount > 0;
+    }
+
+    public long getObstacleCount() {
+        return obstacleCount;
+    }
+
+    // Number of cells that can be mowed
+    public long getMowableCount() {
+        return getCellCount() - getObstacleCount();
+    }
+
+    // First column >= col in the row that is not an obstacle, or cols if none
+    public int nextFree(int row, int col) {
+        if (row < 0 || row >= rows || col >= cols) {
+            return cols;
+        }
+        int from = Math.max(0, col);
+        if (obstacles == null) {
+            return from;
+        }
+        long rowStart = index(row, 0);
+        return (int) (nextBit(obstacles, rowStart + from, rowStart + cols, true) - rowStart);
+    }
+
+    // First obstacle column >= col in the row, or cols if none
+    public int nextObstacle(int row, int col) {
+        if (row < 0 || row >= rows || col >= cols || obstacles == null) {
+            return cols;
+        }
+        long rowStart = index(row, 0);
+        return (int) (nextBit(obstacles, rowStart + Math.max(0, col), rowStart + cols, false) - rowStart);
+    }
+
+    // Free-run and connectivity index for the current obstacles, rebuilt
+    // after obstacles change
+    public TraversabilityIndex getTraversability() {
+        TraversabilityIndex index = traversability;
+        if (index == null) {
+            index = new TraversabilityIndex(this);
+            traversability = index;
+        }
+        return index;
+    }
+
+    // Observer hook so a mower can record its progress directly
+    @Override
+    public void onCellMowed(int row, int col) {
+        mow(row, col);
+    }
+
+    @Override
+    public void onCellsMowed(int[] rows, int[] cols, int count) {
+        for (int i = 0; i < count; i++) {
+            mow(rows[i], cols[i]);
+        }
+    }
+
+    // Number of backing words, for memory accounting
+    int getWordCount() {
+        return words.length;
+    }
+
+    // Bulk copy of the mowed bits, then the obstacle bits if there are any,
+    // for snapshots
+    void writeTo(LongBuffer out) {
+        out.put(words);
+        if (obstacleCount > 0) {
+            out.put(obstacles);
+        }
+    }
+
+    // Load bits written by writeTo from a lawn of the same size
+    void readFrom(LongBuffer in, boolean withObstacles) {
+        in.get(words);
+        if (withObstacles) {
+            if (obstacles == null) {
+                obstacles = new long[words.length];
+            }
+            in.get(obstacles);
+            obstacleCount = 0;
+            for (long word : obstacles) {
+                obstacleCount += Long.bitCount(word);
+            }
+        } else if (obstacles != null) {
+            Arrays.fill(obstacles, 0L);
+            obstacleCount = 0;
+        }
+        traversability = null;
+    }
+
+    private long index(int row, int col) {
+        return (long) row * cols + col;
+    }
+
+    private static boolean isSet(long[] bits, long bit) {
+        return bits != null && (bits[(int) (bit >>> 6)] & (1L << bit)) != 0;
+    }
+
+    // Set bits [from, to) of a packed array
+    private static void setBits(long[] bits, long from, long to) {
+        int first = (int) (from >>> 6);
+        int last = (int) ((to - 1) >>> 6);
+        long firstMask = WORD_MASK << from;
+        long lastMask = WORD_MASK >>> -to;
+        if (first == last) {
+            bits[first] |= firstMask & lastMask;
+            return;
+        }
+        bits[first] |= firstMask;
+        for (int i = first + 1; i < last; i++) {
+            bits[i] = WORD_MASK;
+        }
+        bits[last] |= lastMask;
+    }
+
+    // Clear bits [from, to) of a packed array; with a mask, only the bits set
+    // in the mask are cleared
+    private static void clearBits(long[] bits, long[] mask, long from, long to) {
+        int first = (int) (from >>> 6);
+        int last = (int) ((to - 1) >>> 6);
+        long firstMask = WORD_MASK << from;
+        long lastMask = WORD_MASK >>> -to;
+        for (int i = first; i <= last; i++) {
+            long range = WORD_MASK;
+            if (i == first) {
+                range &= firstMask;
+            }
+            if (i == last) {
+                range &= lastMask;
+            }
+            if (mask != null) {
+                range &= mask[i];
+            }
+            bits[i] &= ~range;
+        }
+    }
+
+    // Count set bits in [from, to) of a packed array
+    private static long countBits(long[] bits, long from, long to) {
+        int first = (int) (from >>> 6);
+        int last = (int) ((to - 1) >>> 6);
+        long firstMask = WORD_MASK << from;
+        long lastMask = WORD_MASK >>> -to;
+        if (first == last) {
+            return Long.bitCount(bits[first] & firstMask & lastMask);
+        }
+        long count = Long.bitCount(bits[first] & firstMask);
+        for (int i = first + 1; i < last; i++) {
+            count += Long.bitCount(bits[i]);
+        }
+        return count + Long.bitCount(bits[last] & lastMask);
+    }
+
+    // Index of the first set (or clear) bit in [from, to), or to if none,
+    // scanning a word at a time
+    private static long nextBit(long[] bits, long from, long to, boolean clear) {
+        if (from >= to) {
+            return to;
+        }
+        int w = (int) (from >>> 6);
+        long word = (clear ? ~bits[w] : bits[w]) & (WORD_MASK << from);
+        while (word == 0) {
+            w++;
+            if ((long) w << 6 >= to) {
+                return to;
+            }
+            word = clear ? ~bits[w] : bits[w];
+        }
+        return Math.min(to, ((long) w << 6) + Long.numberOfTrailingZeros(word));
+    }
+}
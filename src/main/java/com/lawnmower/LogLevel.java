@@ -0,0 +1,11 @@
+package com.lawnmower;
+
+// Severity of a log entry; a MowerLog level lets through entries at or above it
+public enum LogLevel {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR,
+    // Disables logging entirely
+    OFF
+}
@@ -0,0 +1,7 @@
+package com.lawnmower;
+
+// Destination for log entries, called on MowerLog's background thread
+public interface LogSink {
+    // timeNanos is the System.nanoTime of the log call
+    void write(long timeNanos, LogLevel level, String message);
+}
@@ -0,0 +1,356 @@
+package com.lawnmower;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Lawn state kept in a memory-mapped file, so a long mowing job survives the
+// JVM dying. The file holds a header with the lawn size and one checkpoint
+// slot per mower (position, coverage path cursor, cells mowed), followed by
+// one bit per cell in row-major order. Writes go straight into the mapping;
+// nothing is copied through the heap, and lawns larger than the heap work.
+//
+// The file is a mirror of a run, not its backing store: mowers still claim
+// cells on their heap LawnState and the file records what they report. On
+// restart, attach copies the recorded cells back into the mower's shared
+// lawn, so cells mowed by any mower before the crash are not mowed again.
+//
+// Header layout, little-endian:
+//   0  int magic, int version, int rows, int cols, int mower slots
+//   64 per slot: two 32-byte checkpoint records, each int row, int col,
+//      long path position, long cells mowed, long sequence
+// A checkpoint overwrites the older record and writes its sequence last,
+// so a crash mid-write leaves the newer record intact. Loading takes the
+// valid record with the highest sequence; 0 means never written.
+public class MappedLawnState implements MowerObserver, AutoCloseable {
+    private static final int MAGIC = 0x4C41574E; // "LAWN"
+    private static final int VERSION = 2;
+    private static final int SLOTS_OFFSET = 64;
+    private static final int RECORD_SIZE = 32;
+    private static final int SLOT_SIZE = 2 * RECORD_SIZE;
+    private static final int SEQUENCE_OFFSET = 24;
+    // Bitmap mappings are split in segments below the 2 GB mapping limit
+    private static final int SEGMENT_SHIFT = 27; // Words per segment: 2^27 (1 GB)
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+    private static final VarHandle WORDS =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final MappedByteBuffer[] segments;
+    private final int rows;
+    private final int cols;
+    private final int mowerSlots;
+    private final long wordCount;
+    private LawnState restored; // Last heap lawn filled in by attach
+
+    private MappedLawnState(FileChannel channel, int rows, int cols, int mowerSlots, boolean created)
+            throws IOException {
+        this.channel = channel;
+        this.rows = rows;
+        this.cols = cols;
+        this.mowerSlots = mowerSlots;
+        this.wordCount = ((long) rows * cols + 63) >>> 6;
+
+        long headerSize = headerSize(mowerSlots);
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, headerSize);
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        if (created) {
+            header.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, rows).putInt(12, cols).putInt(16, mowerSlots);
+        }
+
+        int segmentCount = (int) ((wordCount + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        this.segments = new MappedByteBuffer[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            long firstWord = (long) i << SEGMENT_SHIFT;
+            long words = Math.min(1L << SEGMENT_SHIFT, wordCount - firstWord);
+            segments[i] = channel.map(FileChannel.MapMode.READ_WRITE,
+                    headerSize + firstWord * Long.BYTES, words * Long.BYTES);
+        }
+    }
+
+    // Open the lawn file, creating it if it does not exist yet. An existing
+    // file must describe a lawn of the same size and number of mowers.
+    public static MappedLawnState open(Path file, int rows, int cols, int mowerSlots) throws IOException {
+        if (rows < 0 || cols < 0 || mowerSlots < 0) {
+            throw new IllegalArgumentException("Invalid lawn file shape: " + rows + "x" + cols + ", " + mowerSlots + " mowers");
+        }
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long size = headerSize(mowerSlots) + (((long) rows * cols + 63) >>> 6) * Long.BYTES;
+            boolean created = channel.size() == 0;
+            if (!created) {
+                checkHeader(channel, rows, cols, mowerSlots);
+            }
+            if (channel.size() < size) {
+                // Grow to full size; new bytes read as zero (unmowed)
+                channel.write(ByteBuffer.wrap(new byte[1]), size - 1);
+            }
+            return new MappedLawnState(channel, rows, cols, mowerSlots, created);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getMowerSlots() {
+        return mowerSlots;
+    }
+
+    public boolean contains(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols;
+    }
+
+    public boolean isMowed(int row, int col) {
+        if (!contains(row, col)) {
+            return false;
+        }
+        long bit = (long) row * cols + col;
+        return (word(bit >>> 6) & (1L << bit)) != 0;
+    }
+
+    // Mark a cell as mowed; out-of-bounds cells are ignored
+    public void mow(int row, int col) {
+        tryMow(row, col);
+    }
+
+    // Atomically claim a cell; true only for the caller that mowed it
+    public boolean tryMow(int row, int col) {
+        if (!contains(row, col)) {
+            return false;
+        }
+        long bit = (long) row * cols + col;
+        long word = bit >>> 6;
+        long mask = 1L << bit;
+        long previous = (long) WORDS.getAndBitwiseOr(segments[(int) (word >>> SEGMENT_SHIFT)],
+                (int) ((word & SEGMENT_MASK) << 3), mask);
+        return (previous & mask) == 0;
+    }
+
+    public void clear(int row, int col) {
+        if (contains(row, col)) {
+            long bit = (long) row * cols + col;
+            long word = bit >>> 6;
+            WORDS.getAndBitwiseAnd(segments[(int) (word >>> SEGMENT_SHIFT)],
+                    (int) ((word & SEGMENT_MASK) << 3), ~(1L << bit));
+        }
+    }
+
+    public long getMowedCount() {
+        long count = 0;
+        for (long i = 0; i < wordCount; i++) {
+            count += Long.bitCount(word(i));
+        }
+        return count;
+    }
+
+    public double getPercentMowed() {
+        long cells = (long) rows * cols;
+        return cells == 0 ? 100.0 : getMowedCount() * 100.0 / cells;
+    }
+
+    public boolean isFullyMowed() {
+        return getMowedCount() == (long) rows * cols;
+    }
+
+    // Whether a mower has saved progress in the slot
+    public boolean hasCheckpoint(int slot) {
+        return latestRecord(slot) >= 0;
+    }
+
+    public int getCheckpointRow(int slot) {
+        return header.getInt(checkpointRecord(slot));
+    }
+
+    public int getCheckpointCol(int slot) {
+        return header.getInt(checkpointRecord(slot) + 4);
+    }
+
+    public long getCheckpointPosition(int slot) {
+        return header.getLong(checkpointRecord(slot) + 8);
+    }
+
+    public long getCheckpointCellsMowed(int slot) {
+        return header.getLong(checkpointRecord(slot) + 16);
+    }
+
+    // Save a mower's position and path cursor in its slot. Call from the
+    // thread that steps the mower, between ticks.
+    public void checkpoint(int slot, LawnMower mower) {
+        int first = slotOffset(slot);
+        int second = first + RECORD_SIZE;
+        long firstSequence = sequence(first);
+        long secondSequence = sequence(second);
+        int record = firstSequence <= secondSequence ? first : second;
+        header.putInt(record, mower.getCurrentRow());
+        header.putInt(record + 4, mower.getCurrentCol());
+        header.putLong(record + 8, mower.getPathPosition());
+        header.putLong(record + 16, mower.getCellsMowed());
+        // Release: the fields above reach the mapping before the sequence
+        WORDS.setRelease(header, record + SEQUENCE_OFFSET, Math.max(firstSequence, secondSequence) + 1);
+    }
+
+    // Persist a mower's progress in the slot. A mower that already has a
+    // checkpoint there resumes from it, and a mower sharing a lawn gets
+    // every cell recorded in the file marked on that lawn first. Call after
+    // assigning its region and choosing its coverage path, before it starts.
+    public void attach(int slot, LawnMower mower) {
+        int record = latestRecord(slot);
+        if (record >= 0) {
+            LawnState lawn = mower.getLawn();
+            if (lawn != null && lawn != restored) {
+                restoreInto(lawn);
+                restored = lawn;
+            }
+            mower.resumeAt(header.getLong(record + 8), header.getInt(record),
+                    header.getInt(record + 4), header.getLong(record + 16));
+        }
+        mower.addObserver(new SlotRecorder(slot, mower));
+    }
+
+    // Mark every cell recorded in the file as mowed on a heap lawn of the
+    // same size
+    public void restoreInto(LawnState lawn) {
+        if (lawn.getRows() != rows || lawn.getCols() != cols) {
+            throw new IllegalArgumentException("Lawn is " + lawn.getRows() + "x" + lawn.getCols()
+                    + ", file is " + rows + "x" + cols);
+        }
+        for (long i = 0; i < wordCount; i++) {
+            long bits = word(i);
+            while (bits != 0) {
+                long bit = (i << 6) + Long.numberOfTrailingZeros(bits);
+                lawn.mow((int) (bit / cols), (int) (bit % cols));
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    // Write dirty pages to the file
+    public void flush() {
+        header.force();
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    @Override
+    public void onCellMowed(int row, int col) {
+        mow(row, col);
+    }
+
+    @Override
+    public void onCellsMowed(int[] rows, int[] cols, int count) {
+        for (int i = 0; i < count; i++) {
+            mow(rows[i], cols[i]);
+        }
+    }
+
+    // Flushes and closes the file; the mapping is released by the garbage
+    // collector, so do not use this object afterwards
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    private long word(long index) {
+        return (long) WORDS.getVolatile(segments[(int) (index >>> SEGMENT_SHIFT)], (int) ((index & SEGMENT_MASK) << 3));
+    }
+
+    private int slotOffset(int slot) {
+        if (slot < 0 || slot >= mowerSlots) {
+            throw new IndexOutOfBoundsException("Mower slot " + slot + " of " + mowerSlots);
+        }
+        return SLOTS_OFFSET + slot * SLOT_SIZE;
+    }
+
+    // Offset of the slot's newest valid record, or -1 if it has none. A
+    // record is valid once its sequence is written and its fields are in
+    // range; a torn or corrupt newer record falls back to the older one.
+    private int latestRecord(int slot) {
+        int first = slotOffset(slot);
+        int second = first + RECORD_SIZE;
+        boolean firstValid = isValidRecord(first);
+        boolean secondValid = isValidRecord(second);
+        if (firstValid && secondValid) {
+            return sequence(first) >= sequence(second) ? first : second;
+        }
+        return firstValid ? first : secondValid ? second : -1;
+    }
+
+    private int checkpointRecord(int slot) {
+        int record = latestRecord(slot);
+        if (record < 0) {
+            throw new IllegalStateException("Mower slot " + slot + " has no checkpoint");
+        }
+        return record;
+    }
+
+    private boolean isValidRecord(int record) {
+        return sequence(record) > 0
+                && contains(header.getInt(record), header.getInt(record + 4))
+                && header.getLong(record + 8) >= 0
+                && header.getLong(record + 16) >= 0;
+    }
+
+    // Acquire: pairs with the release in checkpoint
+    private long sequence(int record) {
+        return (long) WORDS.getAcquire(header, record + SEQUENCE_OFFSET);
+    }
+
+    // Header plus slots, rounded up so the bitmap starts on a 64-byte line
+    private static long headerSize(int mowerSlots) {
+        return (SLOTS_OFFSET + (long) mowerSlots * SLOT_SIZE + 63) & ~63L;
+    }
+
+    private static void checkHeader(FileChannel channel, int rows, int cols, int mowerSlots) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(20).order(ByteOrder.LITTLE_ENDIAN);
+        channel.read(buffer, 0);
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a lawn state file");
+        }
+        if (buffer.getInt(8) != rows || buffer.getInt(12) != cols || buffer.getInt(16) != mowerSlots) {
+            throw new IOException("Lawn file is " + buffer.getInt(8) + "x" + buffer.getInt(12)
+                    + " with " + buffer.getInt(16) + " mowers, expected " + rows + "x" + cols
+                    + " with " + mowerSlots);
+        }
+    }
+
+    // Marks the mower's cells in the file and checkpoints it after each batch
+    private final class SlotRecorder implements MowerObserver {
+        private final int slot;
+        private final LawnMower mower;
+
+        SlotRecorder(int slot, LawnMower mower) {
+            this.slot = slot;
+            this.mower = mower;
+        }
+
+        @Override
+        public void onCellMowed(int row, int col) {
+            mow(row, col);
+            checkpoint(slot, mower);
+        }
+
+        @Override
+        public void onCellsMowed(int[] rows, int[] cols, int count) {
+            MappedLawnState.this.onCellsMowed(rows, cols, count);
+            checkpoint(slot, mower);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.lawnmower;
+
+import java.util.Collections;
+import java.util.Map;
+
+// Values of a mower's metrics at one moment, for pull-style reporting. Two
+// snapshots give rates over the time between them.
+public final class MetricsSnapshot {
+    private final long timeNanos;
+    private final long ticks;
+    private final long cellsMowed;
+    private final long turns;
+    private final double percentCovered;
+    private final LatencyHistogram.Snapshot tickJitter;
+    private final Map<MowerObserver, LatencyHistogram.Snapshot> observerLatency;
+
+    MetricsSnapshot(long timeNanos, long ticks, long cellsMowed, long turns, double percentCovered,
+                    LatencyHistogram.Snapshot tickJitter,
+                    Map<MowerObserver, LatencyHistogram.Snapshot> observerLatency) {
+        this.timeNanos = timeNanos;
+        this.ticks = ticks;
+        this.cellsMowed = cellsMowed;
+        this.turns = turns;
+        this.percentCovered = percentCovered;
+        this.tickJitter = tickJitter;
+        this.observerLatency = Collections.unmodifiableMap(observerLatency);
+    }
+
+    // System.nanoTime when the snapshot was taken
+    public long getTimeNanos() {
+        return timeNanos;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public long getCellsMowed() {
+        return cellsMowed;
+    }
+
+    public long getTurns() {
+        return turns;
+    }
+
+    public double getPercentCovered() {
+        return percentCovered;
+    }
+
+    // How late ticks ran against their schedule
+    public LatencyHistogram.Snapshot getTickJitter() {
+        return tickJitter;
+    }
+
+    // Time each observer spent handling batches of mowed cells
+    public Map<MowerObserver, LatencyHistogram.Snapshot> getObserverLatency() {
+        return observerLatency;
+    }
+
+    // Ticks per second between an earlier snapshot and this one
+    public double getTicksPerSecond(MetricsSnapshot earlier) {
+        long elapsed = timeNanos - earlier.timeNanos;
+        return elapsed <= 0 ? 0 : (ticks - earlier.ticks) * 1e9 / elapsed;
+    }
+}
@@ -0,0 +1,12 @@
+package com.lawnmower;
+
+// Inputs to a mower's state machine
+public enum MowerEvent {
+    START,
+    PAUSE,
+    RESUME,
+    STOP,
+    FINISH,
+    // A finished mower was given new work
+    RESET
+}
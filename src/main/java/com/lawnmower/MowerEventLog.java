@@ -0,0 +1,143 @@
+package com.lawnmower;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongSupplier;
+
+// Append-only binary record of what a mower reported to its observers, for
+// reproducing or auditing a run with EventLogReplayer. Register it as an
+// observer; every batch becomes one record and status changes are recorded
+// as they happen. Records are encoded into a direct buffer and written to
+// the file channel whenever it fills up.
+//
+// File layout, little-endian header then records:
+//   int magic, int version, int lawn columns
+//   CELLS:  byte 1, varint time delta, varint count, count x zigzag varint
+//           delta of the row-major cell index from the previous cell
+//   STATUS: byte 2, varint time delta, byte status ordinal
+// Time deltas are nanoseconds since the previous record.
+public class MowerEventLog implements MowerObserver, AutoCloseable {
+    static final int MAGIC = 0x4D4C4F47; // "MLOG"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 12;
+    static final byte CELLS = 1;
+    static final byte STATUS = 2;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // Longest encoding of one cell or record prefix
+    private static final int MAX_VARINT = 10;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final int cols;
+    private final LongSupplier clock;
+    private long lastTime;
+    private long lastCell;
+    private long events;
+
+    // Log cells of a lawn with the given number of columns, timestamped with
+    // System.nanoTime
+    public MowerEventLog(Path file, int cols) throws IOException {
+        this(file, cols, System::nanoTime);
+    }
+
+    // Timestamps come from the given nanosecond clock, e.g. simulated time
+    public MowerEventLog(Path file, int cols, LongSupplier clock) throws IOException {
+        if (cols < 1 || clock == null) {
+            throw new IllegalArgumentException("Event log needs a lawn width and a clock");
+        }
+        this.cols = cols;
+        this.clock = clock;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.lastTime = clock.getAsLong();
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(cols);
+    }
+
+    @Override
+    public synchronized void onCellMowed(int row, int col) {
+        beginRecord(CELLS, MAX_VARINT);
+        writeVarint(1);
+        writeCell(row, col);
+        events++;
+    }
+
+    @Override
+    public synchronized void onCellsMowed(int[] rows, int[] cols, int count) {
+        if (count <= 0) {
+            return;
+        }
+        beginRecord(CELLS, MAX_VARINT);
+        writeVarint(count);
+        for (int i = 0; i < count; i++) {
+            ensureRoom(MAX_VARINT);
+            writeCell(rows[i], cols[i]);
+        }
+        events += count;
+    }
+
+    @Override
+    public synchronized void onStatusChanged(MowerStatus status) {
+        beginRecord(STATUS, 1);
+        buffer.put((byte) status.ordinal());
+        events++;
+    }
+
+    // Cells and status changes recorded so far
+    public synchronized long getEventCount() {
+        return events;
+    }
+
+    // Write everything buffered to the file
+    public synchronized void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    // Tag and time delta, with room for the first payload bytes after them
+    private void beginRecord(byte tag, int payload) {
+        ensureRoom(1 + MAX_VARINT + payload);
+        long now = clock.getAsLong();
+        buffer.put(tag);
+        writeVarint(Math.max(0, now - lastTime));
+        lastTime = now;
+    }
+
+    private void writeCell(int row, int col) {
+        long cell = (long) row * cols + col;
+        long delta = cell - lastCell;
+        writeVarint((delta << 1) ^ (delta >> 63)); // Zigzag: small either way
+        lastCell = cell;
+    }
+
+    private void writeVarint(long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    // The log is an observer, so a full disk cannot be thrown as IOException
+    private void ensureRoom(int bytes) {
+        if (buffer.remaining() < bytes) {
+            try {
+                flush();
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot write event log", e);
+            }
+        }
+    }
+}
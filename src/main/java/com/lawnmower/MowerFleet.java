@@ -0,0 +1,130 @@
+package com.lawnmower;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Several mowers working one shared LawnState. A WorkPlanner hands out the
+// regions to mow (by default one horizontal strip per mower), and every mower
+// runs its own SimulationEngine on a dedicated worker thread. Cells are
+// claimed atomically on the shared lawn, so overlapping work is never mowed
+// twice.
+public class MowerFleet {
+    private final LawnState lawn;
+    private final List<LawnMower> mowers;
+
+    public MowerFleet(LawnState lawn, int size) {
+        if (lawn == null || size < 1) {
+            throw new IllegalArgumentException("A lawn and at least one mower are required");
+        }
+        this.lawn = lawn;
+        List<LawnMower> created = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            created.add(new LawnMower(lawn));
+        }
+        this.mowers = Collections.unmodifiableList(created);
+    }
+
+    public LawnState getLawn() {
+        return lawn;
+    }
+
+    public List<LawnMower> getMowers() {
+        return mowers;
+    }
+
+    public int size() {
+        return mowers.size();
+    }
+
+    // Register an observer with every mower in the fleet. Mowers notify from
+    // their own threads, so the observer must be thread-safe.
+    public void addObserver(MowerObserver observer) {
+        for (LawnMower mower : mowers) {
+            mower.addObserver(observer);
+        }
+    }
+
+    // Mow the lawn as fast as possible; returns the completion time in ticks
+    public long run() throws InterruptedException {
+        return run(SimulationClock::fastForward);
+    }
+
+    // Mow the lawn with each mower paced by its own clock from the supplier;
+    // returns the completion time in ticks, i.e. the slowest mower's tick count
+    public long run(Supplier<SimulationClock> clocks) throws InterruptedException {
+        return run(WorkPlanner.strips(lawn.getRows(), lawn.getCols(), mowers.size()), clocks);
+    }
+
+    // Mow the tiles handed out by the planner; each mower keeps asking for
+    // tiles (stealing once its own are done) until none are left
+    public long run(WorkPlanner planner, Supplier<SimulationClock> clocks) throws InterruptedException {
+        if (planner.getMowerCount() != mowers.size()) {
+            throw new IllegalArgumentException("Planner is for " + planner.getMowerCount()
+                    + " mowers, fleet has " + mowers.size());
+        }
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(mowers.size(), runnable -> {
+            Thread thread = new Thread(runnable, "mower-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Long>> results = new ArrayList<>(mowers.size());
+            for (int i = 0; i < mowers.size(); i++) {
+                int index = i;
+                LawnMower mower = mowers.get(i);
+                SimulationEngine engine = new SimulationEngine(mower, clocks.get());
+                results.add(workers.submit(() -> mowTiles(index, mower, engine, planner)));
+            }
+
+            long completionTicks = 0;
+            for (Future<Long> result : results) {
+                completionTicks = Math.max(completionTicks, result.get());
+            }
+            return completionTicks;
+        } catch (InterruptedException e) {
+            stopAll();
+            throw e;
+        } catch (ExecutionException e) {
+            stopAll();
+            throw new IllegalStateException("Mower failed", e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    // Cells reached by a mower after another one had already claimed them
+    public long getDuplicateClaims() {
+        long total = 0;
+        for (LawnMower mower : mowers) {
+            total += mower.getDuplicateClaims();
+        }
+        return total;
+    }
+
+    private void stopAll() {
+        for (LawnMower mower : mowers) {
+            mower.stop();
+        }
+    }
+
+    // Worker loop: mow planned tiles until the planner runs dry or the mower is
+    // stopped; returns the ticks spent mowing
+    private static long mowTiles(int index, LawnMower mower, SimulationEngine engine, WorkPlanner planner) {
+        long ticks = 0;
+        Tile tile;
+        while (!Thread.currentThread().isInterrupted() && (tile = planner.next(index)) != null) {
+            mower.assign(tile.getTop(), tile.getLeft(), tile.getBottom(), tile.getRight());
+            ticks += engine.run();
+        }
+        return ticks;
+    }
+}
@@ -0,0 +1,160 @@
+package com.lawnmower;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+// Asynchronous log for mower events. Callers only copy the entry into a
+// fixed ring buffer; a background daemon thread hands entries to the sink,
+// so no caller ever takes an I/O lock. Entries below the level cost one
+// volatile read, and at OFF the drain thread is never started. When the
+// ring is full new entries are dropped and counted rather than blocking.
+public final class MowerLog {
+    private static final int CAPACITY = 1 << 12;
+    private static final int MASK = CAPACITY - 1;
+    // Longest a flush waits for the drain thread
+    private static final long FLUSH_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+    // Plain messages, as the states used to print them
+    private static final LogSink CONSOLE = (timeNanos, level, message) -> System.out.println(message);
+
+    private static volatile LogLevel level = LogLevel.INFO;
+    private static volatile LogSink sink = CONSOLE;
+
+    // Ring slots; published[i] holds the sequence number written to slot i
+    private static final long[] times = new long[CAPACITY];
+    private static final LogLevel[] levels = new LogLevel[CAPACITY];
+    private static final String[] messages = new String[CAPACITY];
+    private static final AtomicLongArray published = new AtomicLongArray(CAPACITY);
+    private static final AtomicLong head = new AtomicLong(); // Next sequence to claim
+    private static volatile long tail; // Next sequence to drain
+    private static final AtomicLong dropped = new AtomicLong();
+    private static volatile Thread drainer;
+    private static volatile boolean drainerWaiting;
+
+    static {
+        for (int i = 0; i < CAPACITY; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    private MowerLog() {
+    }
+
+    public static LogLevel getLevel() {
+        return level;
+    }
+
+    public static void setLevel(LogLevel newLevel) {
+        if (newLevel == null) {
+            throw new IllegalArgumentException("Log level is required");
+        }
+        level = newLevel;
+    }
+
+    // Where entries go; the default prints messages to System.out
+    public static void setSink(LogSink newSink) {
+        sink = newSink == null ? CONSOLE : newSink;
+    }
+
+    public static boolean isEnabled(LogLevel entryLevel) {
+        return entryLevel.compareTo(level) >= 0 && entryLevel != LogLevel.OFF;
+    }
+
+    public static void debug(String message) {
+        log(LogLevel.DEBUG, message);
+    }
+
+    public static void info(String message) {
+        log(LogLevel.INFO, message);
+    }
+
+    public static void warn(String message) {
+        log(LogLevel.WARN, message);
+    }
+
+    // Queue an entry for the background thread
+    public static void log(LogLevel entryLevel, String message) {
+        if (!isEnabled(entryLevel)) {
+            return;
+        }
+        long sequence;
+        do {
+            sequence = head.get();
+            if (sequence - tail >= CAPACITY) {
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!head.compareAndSet(sequence, sequence + 1));
+
+        int slot = (int) (sequence & MASK);
+        times[slot] = System.nanoTime();
+        levels[slot] = entryLevel;
+        messages[slot] = message;
+        published.set(slot, sequence); // Publishes the slot to the drainer
+
+        Thread thread = drainer;
+        if (thread == null) {
+            startDrainer();
+        } else if (drainerWaiting) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    // Entries lost because the ring was full
+    public static long getDroppedCount() {
+        return dropped.get();
+    }
+
+    // Wait until every entry logged before the call reached the sink;
+    // returns false if that took longer than a few seconds
+    public static boolean flush() {
+        long target = head.get();
+        long deadline = System.nanoTime() + FLUSH_TIMEOUT_NANOS;
+        while (tail < target) {
+            Thread thread = drainer;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+            if (System.nanoTime() - deadline > 0) {
+                return false;
+            }
+            Thread.yield();
+        }
+        return true;
+    }
+
+    private static synchronized void startDrainer() {
+        if (drainer != null) {
+            return;
+        }
+        Thread thread = new Thread(MowerLog::drain, "mower-log");
+        thread.setDaemon(true);
+        drainer = thread;
+        thread.start();
+        // Daemon threads die with the JVM; hand over what is left first
+        Runtime.getRuntime().addShutdownHook(new Thread(MowerLog::flush, "mower-log-flush"));
+    }
+
+    private static void drain() {
+        while (true) {
+            long next = tail;
+            int slot = (int) (next & MASK);
+            if (published.get(slot) != next) {
+                drainerWaiting = true;
+                if (published.get(slot) != next) { // Recheck before sleeping
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+                }
+                drainerWaiting = false;
+                continue;
+            }
+            try {
+                sink.write(times[slot], levels[slot], messages[slot]);
+            } catch (RuntimeException e) {
+                dropped.incrementAndGet(); // A failing sink must not kill the drainer
+            }
+            messages[slot] = null;
+            tail = next + 1; // Frees the slot for producers and flush()
+        }
+    }
+}
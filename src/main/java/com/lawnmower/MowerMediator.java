@@ -3,15 +3,19 @@ package com.lawnmower;
 import java.awt.Color;
 
 public class MowerMediator implements Mediator {
-    private final LawnGrid lawnGrid;
     private final LawnMower lawnMower;
+    private final CoalescingGridUpdater gridUpdater;
 
     public MowerMediator(LawnGrid lawnGrid, LawnMower lawnMower) {
-        this.lawnGrid = lawnGrid;
+        this(lawnGrid, lawnMower, CoalescingGridUpdater.DEFAULT_FRAMES_PER_SECOND);
+    }
+
+    public MowerMediator(LawnGrid lawnGrid, LawnMower lawnMower, int maxFramesPerSecond) {
         this.lawnMower = lawnMower;
+        this.gridUpdater = new CoalescingGridUpdater(lawnGrid, Color.green, maxFramesPerSecond);
 
-        // Add LawnGrid as an observer
-        lawnMower.addObserver(this::updateLawn);
+        // Mowed cells reach the LawnGrid in per-frame batches on the EDT
+        lawnMower.addObserver(gridUpdater);
     }
 
     @Override
@@ -26,6 +30,6 @@ public class MowerMediator implements Mediator {
 
     @Override
     public void updateLawn(int row, int col) {
-        lawnGrid.updateCell(row, col, Color.green);
+        gridUpdater.onCellMowed(row, col);
     }
 }
@@ -0,0 +1,243 @@
+package com.lawnmower;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+// Runtime metrics of one mower: ticks, cells mowed and turns, percent of the
+// lawn covered, how late ticks ran, and a latency histogram per observer.
+// The counters are always on and cost nothing extra. Histograms take about
+// 15 KB each, too much for every mower of a large fleet, so they are only
+// kept once enableHistograms() or register() is called; recording then
+// happens on the thread stepping the mower without locks or allocation.
+// Read metrics with snapshot() or over JMX after register().
+public final class MowerMetrics implements MowerMetricsMBean {
+    private static final ObserverHistograms NO_OBSERVERS =
+            new ObserverHistograms(new MowerObserver[0], new LatencyHistogram[0]);
+    private static final LatencyHistogram.Snapshot EMPTY = new LatencyHistogram().snapshot();
+
+    private final LawnMower mower;
+    private volatile LatencyHistogram tickJitter; // null until histograms are enabled
+    private final Map<MowerObserver, LatencyHistogram> observerLatency = new ConcurrentHashMap<>();
+    // Histograms lined up with the observer array last notified; rebuilt only
+    // when observers are added or removed
+    private volatile ObserverHistograms lined = NO_OBSERVERS;
+    private ObjectName registeredName;
+
+    // Last read of getTicksPerSecond
+    private long rateTicks;
+    private long rateNanos = System.nanoTime();
+
+    MowerMetrics(LawnMower mower) {
+        this.mower = mower;
+    }
+
+    // Start keeping the tick jitter and observer latency histograms
+    public synchronized void enableHistograms() {
+        if (tickJitter == null) {
+            tickJitter = new LatencyHistogram();
+        }
+    }
+
+    public boolean isHistogramsEnabled() {
+        return tickJitter != null;
+    }
+
+    // Histogram for each observer in the array, in the same order, or null
+    // while histograms are off
+    LatencyHistogram[] observerHistograms(MowerObserver[] observers) {
+        if (tickJitter == null) {
+            return null;
+        }
+        ObserverHistograms current = lined;
+        if (current.observers != observers) {
+            LatencyHistogram[] histograms = new LatencyHistogram[observers.length];
+            for (int i = 0; i < observers.length; i++) {
+                histograms[i] = observerLatency.computeIfAbsent(observers[i], o -> new LatencyHistogram());
+            }
+            current = new ObserverHistograms(observers, histograms);
+            lined = current;
+        }
+        return current.histograms;
+    }
+
+    // Drop the histogram of a removed observer
+    void forget(MowerObserver observer) {
+        observerLatency.remove(observer);
+    }
+
+    // A tick ran the given nanoseconds after it was due
+    void recordTickJitter(long nanos) {
+        LatencyHistogram histogram = tickJitter;
+        if (histogram != null) {
+            histogram.record(nanos);
+        }
+    }
+
+    @Override
+    public long getTicks() {
+        return mower.getTicks();
+    }
+
+    @Override
+    public synchronized double getTicksPerSecond() {
+        long now = System.nanoTime();
+        long ticks = mower.getTicks();
+        double rate = now == rateNanos ? 0 : (ticks - rateTicks) * 1e9 / (now - rateNanos);
+        rateTicks = ticks;
+        rateNanos = now;
+        return rate;
+    }
+
+    @Override
+    public long getCellsMowed() {
+        mower.getTicks(); // Reading the tick count first publishes the counters
+        return mower.getCellsMowed();
+    }
+
+    @Override
+    public long getTurns() {
+        mower.getTicks();
+        return mower.getTurns();
+    }
+
+    // Of the shared lawn, or of the mower's own lawn for a standalone mower
+    @Override
+    public double getPercentCovered() {
+        LawnState lawn = mower.getLawn();
+        if (lawn != null) {
+            return lawn.getPercentMowed();
+        }
+        long cells = (long) mower.getRows() * mower.getCols();
+        return cells == 0 ? 100.0 : Math.min(100.0, 100.0 * getCellsMowed() / cells);
+    }
+
+    // How late ticks ran, or null while histograms are off
+    public LatencyHistogram getTickJitter() {
+        return tickJitter;
+    }
+
+    // Latency of the observer's batch callbacks, or null if it has none
+    public LatencyHistogram getObserverLatency(MowerObserver observer) {
+        return observerLatency.get(observer);
+    }
+
+    public MetricsSnapshot snapshot() {
+        Map<MowerObserver, LatencyHistogram.Snapshot> latency = new LinkedHashMap<>();
+        for (Map.Entry<MowerObserver, LatencyHistogram> entry : observerLatency.entrySet()) {
+            latency.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        long now = System.nanoTime();
+        long ticks = mower.getTicks();
+        return new MetricsSnapshot(now, ticks, mower.getCellsMowed(), mower.getTurns(),
+                getPercentCovered(), tickJitterSnapshot(), latency);
+    }
+
+    private LatencyHistogram.Snapshot tickJitterSnapshot() {
+        LatencyHistogram histogram = tickJitter;
+        return histogram == null ? EMPTY : histogram.snapshot();
+    }
+
+    @Override
+    public long getTickJitterP50Nanos() {
+        return tickJitterSnapshot().getPercentile(50);
+    }
+
+    @Override
+    public long getTickJitterP99Nanos() {
+        return tickJitterSnapshot().getPercentile(99);
+    }
+
+    @Override
+    public long getTickJitterMaxNanos() {
+        LatencyHistogram histogram = tickJitter;
+        return histogram == null ? 0 : histogram.getMax();
+    }
+
+    @Override
+    public String[] getObserverNames() {
+        List<String> names = new ArrayList<>();
+        for (MowerObserver observer : observerLatency.keySet()) {
+            names.add(observer.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(observer)));
+        }
+        return names.toArray(new String[0]);
+    }
+
+    @Override
+    public long[] getObserverLatencyP50Nanos() {
+        return observerPercentiles(50);
+    }
+
+    @Override
+    public long[] getObserverLatencyP99Nanos() {
+        return observerPercentiles(99);
+    }
+
+    private long[] observerPercentiles(double percentile) {
+        return observerLatency.values().stream()
+                .mapToLong(histogram -> histogram.snapshot().getPercentile(percentile))
+                .toArray();
+    }
+
+    @Override
+    public void resetHistograms() {
+        LatencyHistogram jitter = tickJitter;
+        if (jitter != null) {
+            jitter.reset();
+        }
+        for (LatencyHistogram histogram : observerLatency.values()) {
+            histogram.reset();
+        }
+    }
+
+    // Publish on the platform MBean server as
+    // com.lawnmower:type=MowerMetrics,name=<name>; enables the histograms
+    public synchronized ObjectName register(String name) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("MBean name is required");
+        }
+        unregister();
+        enableHistograms();
+        try {
+            ObjectName objectName = new ObjectName("com.lawnmower:type=MowerMetrics,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            registeredName = objectName;
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register mower metrics as " + name, e);
+        }
+    }
+
+    // Remove from the MBean server; does nothing if not registered
+    public synchronized void unregister() {
+        if (registeredName == null) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            if (server.isRegistered(registeredName)) {
+                server.unregisterMBean(registeredName);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister mower metrics " + registeredName, e);
+        } finally {
+            registeredName = null;
+        }
+    }
+
+    private static final class ObserverHistograms {
+        final MowerObserver[] observers;
+        final LatencyHistogram[] histograms;
+
+        ObserverHistograms(MowerObserver[] observers, LatencyHistogram[] histograms) {
+            this.observers = observers;
+            this.histograms = histograms;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.lawnmower;
+
+// Management interface of MowerMetrics, as seen in JConsole or any JMX
+// client. Durations are in nanoseconds.
+public interface MowerMetricsMBean {
+    long getTicks();
+
+    // Ticks per second since the previous read of this attribute
+    double getTicksPerSecond();
+
+    long getCellsMowed();
+
+    long getTurns();
+
+    double getPercentCovered();
+
+    long getTickJitterP50Nanos();
+
+    long getTickJitterP99Nanos();
+
+    long getTickJitterMaxNanos();
+
+    // Observers with latency recorded, in the same order as the latencies
+    String[] getObserverNames();
+
+    long[] getObserverLatencyP50Nanos();
+
+    long[] getObserverLatencyP99Nanos();
+
+    void resetHistograms();
+}
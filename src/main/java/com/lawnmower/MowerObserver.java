@@ -2,4 +2,18 @@ package com.lawnmower;
 
 public interface MowerObserver {
     void onCellMowed(int row, int col);
+
+    // Receive a batch of mowed cells; rows[i], cols[i] for i < count. The
+    // arrays are reused by the mower, so copy anything kept past the call.
+    // The default delivers the batch one cell at a time.
+    default void onCellsMowed(int[] rows, int[] cols, int count) {
+        for (int i = 0; i < count; i++) {
+            onCellMowed(rows[i], cols[i]);
+        }
+    }
+
+    // The mower started, stopped, paused, resumed or finished. Cells mowed
+    // before the change have already been delivered. Ignored by default.
+    default void onStatusChanged(MowerStatus status) {
+    }
 }
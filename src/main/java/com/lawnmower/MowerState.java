@@ -1,5 +1,9 @@
 package com.lawnmower;
 
 public interface MowerState {
+    // Which row of the transition table this state is
+    MowerStatus getStatus();
+
+    // Announce the state; run when a mower enters it
     void execute();
-}
\ No newline at end of file
+}
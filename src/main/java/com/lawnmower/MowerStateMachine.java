@@ -0,0 +1,43 @@
+package com.lawnmower;
+
+// Transition table for mowers: the next state for every (state, event) pair,
+// indexed by enum ordinals. A missing entry means the event is ignored in
+// that state. Lookups are two array loads and never allocate.
+public final class MowerStateMachine {
+    private static final MowerState[] STATES = new MowerState[MowerStatus.values().length];
+    private static final MowerState[][] TRANSITIONS =
+            new MowerState[MowerStatus.values().length][MowerEvent.values().length];
+
+    static {
+        STATES[MowerStatus.IDLE.ordinal()] = IdleState.INSTANCE;
+        STATES[MowerStatus.MOWING.ordinal()] = MowingState.INSTANCE;
+        STATES[MowerStatus.PAUSED.ordinal()] = PausedState.INSTANCE;
+        STATES[MowerStatus.FINISHED.ordinal()] = FinishedState.INSTANCE;
+
+        on(MowerStatus.IDLE, MowerEvent.START, MowerStatus.MOWING);
+        on(MowerStatus.MOWING, MowerEvent.PAUSE, MowerStatus.PAUSED);
+        on(MowerStatus.MOWING, MowerEvent.STOP, MowerStatus.IDLE);
+        on(MowerStatus.MOWING, MowerEvent.FINISH, MowerStatus.FINISHED);
+        on(MowerStatus.PAUSED, MowerEvent.RESUME, MowerStatus.MOWING);
+        on(MowerStatus.PAUSED, MowerEvent.START, MowerStatus.MOWING);
+        on(MowerStatus.PAUSED, MowerEvent.STOP, MowerStatus.IDLE);
+        on(MowerStatus.FINISHED, MowerEvent.RESET, MowerStatus.IDLE);
+    }
+
+    private MowerStateMachine() {
+    }
+
+    // State the event leads to, or null if the event does not apply
+    public static MowerState next(MowerState from, MowerEvent event) {
+        return TRANSITIONS[from.getStatus().ordinal()][event.ordinal()];
+    }
+
+    // Shared state instance for a status
+    public static MowerState stateFor(MowerStatus status) {
+        return STATES[status.ordinal()];
+    }
+
+    private static void on(MowerStatus from, MowerEvent event, MowerStatus to) {
+        TRANSITIONS[from.ordinal()][event.ordinal()] = STATES[to.ordinal()];
+    }
+}
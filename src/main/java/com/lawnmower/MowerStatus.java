@@ -0,0 +1,9 @@
+package com.lawnmower;
+
+// Coarse phase of a mower, as reported to observers
+public enum MowerStatus {
+    IDLE,
+    MOWING,
+    PAUSED,
+    FINISHED
+}
@@ -0,0 +1,197 @@
+package com.lawnmower;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// Runs a mower as straight-line code on a thread of its own instead of
+// TickScheduler callbacks: step, park until the next tick is due, repeat.
+// Threads are virtual where the JVM has them (Java 21+), so a hundred
+// thousand mowers fit on a few carrier threads; older JVMs fall back to
+// platform threads. Pause, resume and stop go through the mower as usual;
+// every status change interrupts the thread, which wakes it from parking
+// or from a blocking MowerController.
+public final class MowerThread {
+    private static final ThreadFactory VIRTUAL = virtualThreadFactory();
+
+    private final LawnMower mower;
+    private final long periodNanos;
+    private final ThreadFactory threads;
+    private MowerController controller;
+    private Thread thread;
+    private Wakeup wakeup;
+
+    // Waits for the mower before each tick, e.g. for a command from a
+    // simulated controller over blocking I/O
+    @FunctionalInterface
+    public interface MowerController {
+        void awaitCommand(LawnMower mower) throws InterruptedException;
+    }
+
+    // Tick every periodMillis on a virtual thread if available
+    public MowerThread(LawnMower mower, long periodMillis) {
+        this(mower, TimeUnit.MILLISECONDS.toNanos(periodMillis), defaultThreadFactory());
+    }
+
+    // Tick every periodNanos, zero for back to back, on a thread from the factory
+    public MowerThread(LawnMower mower, long periodNanos, ThreadFactory threads) {
+        if (mower == null || threads == null) {
+            throw new IllegalArgumentException("Mower and thread factory are required");
+        }
+        if (periodNanos < 0) {
+            throw new IllegalArgumentException("Tick period must not be negative: " + periodNanos);
+        }
+        this.mower = mower;
+        this.periodNanos = periodNanos;
+        this.threads = threads;
+    }
+
+    // Whether this JVM has virtual threads
+    public static boolean isVirtualThreadAvailable() {
+        return VIRTUAL != null;
+    }
+
+    // Virtual threads if available, otherwise daemon platform threads
+    public static ThreadFactory defaultThreadFactory() {
+        if (VIRTUAL != null) {
+            return VIRTUAL;
+        }
+        return runnable -> {
+            Thread thread = new Thread(runnable, "mower-thread");
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // Thread.ofVirtual().factory(), looked up reflectively so the code still
+    // compiles for and runs on Java 17
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    // Call before start()
+    public void setController(MowerController controller) {
+        this.controller = controller;
+    }
+
+    // Begin mowing and start the mower's thread
+    public synchronized void start() {
+        if (thread != null) {
+            throw new IllegalStateException("Mower thread already started");
+        }
+        thread = threads.newThread(this::run);
+        wakeup = new Wakeup(thread);
+        mower.addObserver(wakeup);
+        mower.begin();
+        thread.start();
+    }
+
+    public void pause() {
+        mower.pause();
+    }
+
+    public void resume() {
+        mower.resume();
+    }
+
+    // Stop mowing; the thread ends after its current tick
+    public void stop() {
+        mower.stop();
+    }
+
+    // Wait for the thread to end; false if it is still running after the timeout
+    public boolean join(long timeoutMillis) throws InterruptedException {
+        Thread started = getThread();
+        if (started == null) {
+            return true;
+        }
+        started.join(timeoutMillis);
+        return !started.isAlive();
+    }
+
+    public synchronized Thread getThread() {
+        return thread;
+    }
+
+    public LawnMower getMower() {
+        return mower;
+    }
+
+    private void run() {
+        MowerMetrics metrics = mower.getMetrics();
+        long due = System.nanoTime();
+        try {
+            while (true) {
+                MowerStatus status = mower.getStatus();
+                if (status == MowerStatus.PAUSED) {
+                    LockSupport.park(this);
+                    Thread.interrupted(); // Woken by a status change
+                    due = System.nanoTime(); // No burst of catch-up ticks after a pause
+                    continue;
+                }
+                if (status != MowerStatus.MOWING) {
+                    break;
+                }
+                if (!parkUntil(due)) {
+                    continue; // Status changed while waiting
+                }
+                if (controller != null) {
+                    try {
+                        controller.awaitCommand(mower);
+                    } catch (InterruptedException e) {
+                        continue;
+                    }
+                }
+                if (periodNanos > 0) {
+                    metrics.recordTickJitter(System.nanoTime() - due);
+                }
+                mower.step();
+                mower.flushBatch();
+                due += periodNanos;
+            }
+        } finally {
+            mower.flushBatch();
+            mower.removeObserver(wakeup);
+        }
+    }
+
+    // Park until the deadline; false, with the flag cleared, if interrupted
+    private boolean parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                return false;
+            }
+        }
+        return !Thread.interrupted();
+    }
+
+    // Interrupts the mower's thread when something else changes its status
+    private static final class Wakeup implements MowerObserver {
+        private final Thread thread;
+
+        Wakeup(Thread thread) {
+            this.thread = thread;
+        }
+
+        @Override
+        public void onCellMowed(int row, int col) {
+            // Only status changes matter
+        }
+
+        @Override
+        public void onStatusChanged(MowerStatus status) {
+            if (Thread.currentThread() != thread) {
+                thread.interrupt();
+            }
+        }
+    }
+}
@@ -1,14 +1,24 @@
 package com.lawnmower;
 
 public class MowingState implements MowerState {
-    private LawnMower mower;
+    // States hold no data, so every mower shares one instance
+    public static final MowingState INSTANCE = new MowingState();
+    static final String MESSAGE = "Mower is moving. Press stop to stop.";
 
+    private MowingState() {
+    }
+
+    // Kept for existing callers; the state no longer needs the mower
     public MowingState(LawnMower mower) {
-        this.mower = mower;
+    }
+
+    @Override
+    public MowerStatus getStatus() {
+        return MowerStatus.MOWING;
     }
 
     @Override
     public void execute() {
-        System.out.println("Mower is moving. Press stop to stop.");
+        MowerLog.info(MESSAGE);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,68 @@
+package com.lawnmower;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Copy-on-write set of observers. Adding and removing swap in a new array
+// with a CAS, so they are safe from any thread at any time; notifying reads
+// one array snapshot and iterates it without locking or allocating.
+public class ObserverRegistry {
+    private static final MowerObserver[] EMPTY = new MowerObserver[0];
+
+    private final AtomicReference<MowerObserver[]> observers = new AtomicReference<>(EMPTY);
+
+    // Register an observer; null is ignored
+    public boolean add(MowerObserver observer) {
+        if (observer == null) {
+            return false;
+        }
+        MowerObserver[] current;
+        MowerObserver[] updated;
+        do {
+            current = observers.get();
+            updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = observer;
+        } while (!observers.compareAndSet(current, updated));
+        return true;
+    }
+
+    // Remove one registration of the observer; returns false if it was not registered
+    public boolean remove(MowerObserver observer) {
+        MowerObserver[] current;
+        MowerObserver[] updated;
+        do {
+            current = observers.get();
+            int index = indexOf(current, observer);
+            if (index < 0) {
+                return false;
+            }
+            updated = current.length == 1 ? EMPTY : new MowerObserver[current.length - 1];
+            System.arraycopy(current, 0, updated, 0, index);
+            System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+        } while (!observers.compareAndSet(current, updated));
+        return true;
+    }
+
+    // Observers registered at the time of the call. The array is shared and
+    // must not be modified.
+    MowerObserver[] snapshot() {
+        return observers.get();
+    }
+
+    public int size() {
+        return observers.get().length;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    private static int indexOf(MowerObserver[] array, MowerObserver observer) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == observer) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
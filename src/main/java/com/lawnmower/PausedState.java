@@ -1,14 +1,24 @@
 package com.lawnmower;
 
 public class PausedState implements MowerState {
-    private LawnMower mower;
+    // States hold no data, so every mower shares one instance
+    public static final PausedState INSTANCE = new PausedState();
+    static final String MESSAGE = "Mower is paused. Press resume to continue.";
 
+    private PausedState() {
+    }
+
+    // Kept for existing callers; the state no longer needs the mower
     public PausedState(LawnMower mower) {
-        this.mower = mower;
+    }
+
+    @Override
+    public MowerStatus getStatus() {
+        return MowerStatus.PAUSED;
     }
 
     @Override
     public void execute() {
-        System.out.println("Mower is paused. Press resume to continue.");
+        MowerLog.info(MESSAGE);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package com.lawnmower;
+
+import java.util.concurrent.locks.LockSupport;
+
+// Clock that releases one tick per fixed wall-clock period. Like
+// Timer.scheduleAtFixedRate, late ticks are run immediately to catch up.
+public final class RealTimeClock implements SimulationClock {
+    private final long periodNanos;
+    private long startNanos;
+
+    public RealTimeClock(long periodNanos) {
+        this.periodNanos = Math.max(0, periodNanos);
+        this.startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void reset() {
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public boolean isPaced() {
+        return true;
+    }
+
+    @Override
+    public long dueNanos(long tick) {
+        return startNanos + tick * periodNanos;
+    }
+
+    @Override
+    public void awaitTick(long tick) throws InterruptedException {
+        long due = dueNanos(tick);
+        long remaining;
+        while ((remaining = due - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    public long getPeriodNanos() {
+        return periodNanos;
+    }
+}
@@ -0,0 +1,103 @@
+package com.lawnmower;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// One headless simulation for BatchRunner: a rows x cols lawn with the given
+// fraction of cells blocked by randomly placed obstacles, mowed by a fleet
+// following one coverage strategy. The seed makes every run reproducible.
+public final class Scenario {
+    private final int id;
+    private final int rows;
+    private final int cols;
+    private final double obstacleDensity;
+    private final int fleetSize;
+    private final CoverageStrategy strategy;
+    private final long seed;
+
+    // A null strategy keeps the mowers' default path along the lawn's free runs
+    public Scenario(int id, int rows, int cols, double obstacleDensity, int fleetSize,
+                    CoverageStrategy strategy, long seed) {
+        if (rows < 1 || cols < 1) {
+            throw new IllegalArgumentException("Lawn must have at least one cell: " + rows + "x" + cols);
+        }
+        if (!(obstacleDensity >= 0 && obstacleDensity < 1)) {
+            throw new IllegalArgumentException("Obstacle density must be in [0, 1): " + obstacleDensity);
+        }
+        if (fleetSize < 1) {
+            throw new IllegalArgumentException("At least one mower is required: " + fleetSize);
+        }
+        this.id = id;
+        this.rows = rows;
+        this.cols = cols;
+        this.obstacleDensity = obstacleDensity;
+        this.fleetSize = fleetSize;
+        this.strategy = strategy;
+        this.seed = seed;
+    }
+
+    // Every combination of the given values, each repeated with its own seed.
+    // Sizes are {rows, cols} pairs; strategies may include null for free runs.
+    public static List<Scenario> matrix(int[][] sizes, double[] obstacleDensities, int[] fleetSizes,
+                                        CoverageStrategy[] strategies, int repetitions, long seed) {
+        if (repetitions < 1) {
+            throw new IllegalArgumentException("At least one repetition is required: " + repetitions);
+        }
+        List<Scenario> scenarios = new ArrayList<>();
+        for (int[] size : sizes) {
+            for (double density : obstacleDensities) {
+                for (int fleetSize : fleetSizes) {
+                    for (CoverageStrategy strategy : strategies) {
+                        for (int i = 0; i < repetitions; i++) {
+                            int id = scenarios.size();
+                            scenarios.add(new Scenario(id, size[0], size[1], density, fleetSize, strategy,
+                                    mix(seed + id)));
+                        }
+                    }
+                }
+            }
+        }
+        return Collections.unmodifiableList(scenarios);
+    }
+
+    // SplitMix64 finalizer, so neighbouring ids get unrelated seeds
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public double getObstacleDensity() {
+        return obstacleDensity;
+    }
+
+    public int getFleetSize() {
+        return fleetSize;
+    }
+
+    // Coverage strategy, or null for the default free-run path
+    public CoverageStrategy getStrategy() {
+        return strategy;
+    }
+
+    public String getStrategyName() {
+        return strategy == null ? "FREE_RUN" : strategy.name();
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+}
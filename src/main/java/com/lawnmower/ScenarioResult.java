@@ -0,0 +1,83 @@
+package com.lawnmower;
+
+// Outcome of one Scenario, totalled over its fleet
+public final class ScenarioResult {
+    public static final String CSV_HEADER = "id,rows,cols,obstacle_density,fleet_size,strategy,seed,"
+            + "obstacle_cells,completion_ticks,cells_mowed,mowing_distance,transit_distance,turns,"
+            + "relocations,elapsed_nanos";
+
+    private final Scenario scenario;
+    private final long obstacleCells;
+    private final long completionTicks;
+    private final long cellsMowed;
+    private final long mowingDistance;
+    private final long transitDistance;
+    private final long turns;
+    private final long relocations;
+    private final long elapsedNanos;
+
+    ScenarioResult(Scenario scenario, long obstacleCells, long completionTicks, long cellsMowed,
+                   long mowingDistance, long transitDistance, long turns, long relocations, long elapsedNanos) {
+        this.scenario = scenario;
+        this.obstacleCells = obstacleCells;
+        this.completionTicks = completionTicks;
+        this.cellsMowed = cellsMowed;
+        this.mowingDistance = mowingDistance;
+        this.transitDistance = transitDistance;
+        this.turns = turns;
+        this.relocations = relocations;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public Scenario getScenario() {
+        return scenario;
+    }
+
+    public long getObstacleCells() {
+        return obstacleCells;
+    }
+
+    // Ticks until the slowest mower finished
+    public long getCompletionTicks() {
+        return completionTicks;
+    }
+
+    public long getCellsMowed() {
+        return cellsMowed;
+    }
+
+    public long getMowingDistance() {
+        return mowingDistance;
+    }
+
+    public long getTransitDistance() {
+        return transitDistance;
+    }
+
+    // Mowing plus transit
+    public long getDistance() {
+        return mowingDistance + transitDistance;
+    }
+
+    public long getTurns() {
+        return turns;
+    }
+
+    public long getRelocations() {
+        return relocations;
+    }
+
+    // Wall-clock time the simulation took
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    // One line in CSV_HEADER's column order, without the line break
+    public String toCsvRow() {
+        return scenario.getId() + "," + scenario.getRows() + "," + scenario.getCols() + ","
+                + scenario.getObstacleDensity() + "," + scenario.getFleetSize() + ","
+                + scenario.getStrategyName() + "," + scenario.getSeed() + "," + obstacleCells + ","
+                + completionTicks + "," + cellsMowed + "," + mowingDistance + "," + transitDistance + ","
+                + turns + "," + relocations + "," + elapsedNanos;
+    }
+}
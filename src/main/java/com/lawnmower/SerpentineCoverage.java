@@ -0,0 +1,141 @@
+package com.lawnmower;
+
+// Closed form of a SerpentinePath over an obstacle-free rectangle. The cell
+// mowed at any tick, the ticks left and the turns made so far are O(1)
+// arithmetic, so planning queries on huge lawns need no stepped simulation,
+// and a stretch of the path is claimed on a LawnState a lane at a time with
+// atomic whole-word writes rather than cell by cell.
+public final class SerpentineCoverage {
+    private final int top;
+    private final int left;
+    private final int bottom;
+    private final int right;
+    private final boolean byRows;
+    private final int laneLength;
+    private final long total;
+
+    // Rows [top, bottom) and columns [left, right), lanes along rows or columns
+    public SerpentineCoverage(int top, int left, int bottom, int right, boolean byRows) {
+        int height = Math.max(0, bottom - top);
+        int width = Math.max(0, right - left);
+        this.top = top;
+        this.left = left;
+        this.bottom = top + height;
+        this.right = left + width;
+        this.byRows = byRows;
+        this.laneLength = byRows ? width : height;
+        this.total = (long) height * width;
+    }
+
+    public boolean isByRows() {
+        return byRows;
+    }
+
+    // Ticks to mow the whole rectangle, one per cell
+    public long getTotalTicks() {
+        return total;
+    }
+
+    // Ticks left once the given number of cells has been mowed
+    public long remainingTicks(long position) {
+        return Math.max(0, total - Math.max(0, position));
+    }
+
+    // Packed cell mowed at the given tick, counting from 0
+    public long cellAt(long position) {
+        if (position < 0 || position >= total) {
+            throw new IndexOutOfBoundsException("Tick " + position + " of " + total);
+        }
+        int lane = (int) (position / laneLength);
+        int offset = (int) (position % laneLength);
+        int along = (lane & 1) == 0 ? offset : laneLength - 1 - offset;
+        return byRows
+                ? CoveragePath.pack(top + lane, left + along)
+                : CoveragePath.pack(top + along, left + lane);
+    }
+
+    // Changes of direction on the way from the first cell to the cell at the
+    // given tick. Each lane change turns twice: onto the next lane, then back
+    // along it; single-cell lanes are one straight line.
+    public long turnsBefore(long position) {
+        if (laneLength < 2 || position < 1) {
+            return 0;
+        }
+        long p = Math.min(position, total - 1);
+        return p / laneLength + (p - 1) / laneLength;
+    }
+
+    // Turns over the whole rectangle
+    public long getTotalTurns() {
+        return turnsBefore(total - 1);
+    }
+
+    // Claim the cells of ticks [from, to) on the lawn, a lane segment at a
+    // time; returns how many this call changed to mowed. Claims are atomic,
+    // so other mowers may claim cells of the same range meanwhile. The lawn
+    // must have no obstacles.
+    public long markMowed(LawnState lawn, long from, long to) {
+        long start = Math.max(0, from);
+        long end = Math.min(total, to);
+        if (start >= end) {
+            return 0;
+        }
+        if (!byRows) {
+            return markColumns(lawn, start, end);
+        }
+        long newlyMowed = 0;
+        for (long lane = start / laneLength; lane * laneLength < end; lane++) {
+            long laneStart = lane * laneLength;
+            int a = (int) (Math.max(start, laneStart) - laneStart);
+            int b = (int) (Math.min(end, laneStart + laneLength) - laneStart);
+            int fromCol = (lane & 1) == 0 ? left + a : left + laneLength - b;
+            int row = top + (int) lane;
+            newlyMowed += lawn.claimRange(row, fromCol, fromCol + b - a);
+        }
+        return newlyMowed;
+    }
+
+    // Column lanes: partial lanes at either end cell by cell, the full lanes
+    // in between as one column range per row
+    private long markColumns(LawnState lawn, long start, long end) {
+        long newlyMowed = 0;
+        long firstFull = (start + laneLength - 1) / laneLength;
+        long lastFull = end / laneLength; // Exclusive
+        if (firstFull >= lastFull) {
+            return markCells(lawn, start, end);
+        }
+        newlyMowed += markCells(lawn, start, firstFull * laneLength);
+        for (int row = top; row < bottom; row++) {
+            newlyMowed += lawn.claimRange(row, left + (int) firstFull, left + (int) lastFull);
+        }
+        newlyMowed += markCells(lawn, lastFull * laneLength, end);
+        return newlyMowed;
+    }
+
+    private long markCells(LawnState lawn, long start, long end) {
+        long newlyMowed = 0;
+        for (long position = start; position < end; position++) {
+            long cell = cellAt(position);
+            if (lawn.tryMow(CoveragePath.row(cell), CoveragePath.col(cell))) {
+                newlyMowed++;
+            }
+        }
+        return newlyMowed;
+    }
+
+    public int getTop() {
+        return top;
+    }
+
+    public int getLeft() {
+        return left;
+    }
+
+    public int getBottom() {
+        return bottom;
+    }
+
+    public int getRight() {
+        return right;
+    }
+}
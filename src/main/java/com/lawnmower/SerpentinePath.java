@@ -0,0 +1,73 @@
+package com.lawnmower;
+
+// Boustrophedon walk: lanes are rows (or columns), every other lane reversed.
+// This is the mower's original row-by-row pattern.
+public class SerpentinePath implements CoveragePath {
+    private final boolean byRows;
+    private int top;
+    private int left;
+    private int laneLength;
+    private long total;
+    private long position;
+    // Current lane and offset along it, advanced incrementally
+    private int lane;
+    private int offset;
+
+    public SerpentinePath(boolean byRows) {
+        this.byRows = byRows;
+    }
+
+    public boolean isByRows() {
+        return byRows;
+    }
+
+    @Override
+    public void reset(int top, int left, int bottom, int right) {
+        int height = Math.max(0, bottom - top);
+        int width = Math.max(0, right - left);
+        this.top = top;
+        this.left = left;
+        this.laneLength = byRows ? width : height;
+        this.total = (long) height * width;
+        seek(0);
+    }
+
+    // The same walk as arithmetic on the region of the last reset
+    SerpentineCoverage closedForm() {
+        int lanes = laneLength == 0 ? 0 : (int) (total / laneLength);
+        return byRows
+                ? new SerpentineCoverage(top, left, top + lanes, left + laneLength, true)
+                : new SerpentineCoverage(top, left, top + laneLength, left + lanes, false);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return position < total;
+    }
+
+    @Override
+    public long next() {
+        int along = (lane & 1) == 0 ? offset : laneLength - 1 - offset;
+        long cell = byRows
+                ? CoveragePath.pack(top + lane, left + along)
+                : CoveragePath.pack(top + along, left + lane);
+        position++;
+        if (++offset == laneLength) {
+            offset = 0;
+            lane++;
+        }
+        return cell;
+    }
+
+    @Override
+    public long position() {
+        return position;
+    }
+
+    @Override
+    public void seek(long position) {
+        this.position = Math.max(0, Math.min(position, total));
+        this.lane = laneLength == 0 ? 0 : (int) (this.position / laneLength);
+        this.offset = laneLength == 0 ? 0 : (int) (this.position % laneLength);
+    }
+}
@@ -0,0 +1,36 @@
+package com.lawnmower;
+
+// Serpentine whose lanes run along the longer side of the region. Every lane
+// change costs two turns, so using the shorter dimension as the lane count
+// gives the fewest turns for a given area.
+public class ShortestDimensionFirstPath implements CoveragePath {
+    private final SerpentinePath rowLanes = new SerpentinePath(true);
+    private final SerpentinePath columnLanes = new SerpentinePath(false);
+    private SerpentinePath active = rowLanes;
+
+    @Override
+    public void reset(int top, int left, int bottom, int right) {
+        active = bottom - top <= right - left ? rowLanes : columnLanes;
+        active.reset(top, left, bottom, right);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return active.hasNext();
+    }
+
+    @Override
+    public long next() {
+        return active.next();
+    }
+
+    @Override
+    public long position() {
+        return active.position();
+    }
+
+    @Override
+    public void seek(long position) {
+        active.seek(position);
+    }
+}
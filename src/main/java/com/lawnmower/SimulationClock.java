@@ -0,0 +1,43 @@
+package com.lawnmower;
+
+import java.util.concurrent.TimeUnit;
+
+// Source of simulated time for headless runs. The clock only decides how long
+// to wait between ticks; every mode runs exactly the same mowing steps.
+public interface SimulationClock {
+
+    // Start a new run; tick numbers passed to awaitTick count from here
+    default void reset() {
+    }
+
+    // Block until the given tick is due
+    void awaitTick(long tick) throws InterruptedException;
+
+    // Whether ticks have due times; clocks that never wait have none
+    default boolean isPaced() {
+        return false;
+    }
+
+    // System.nanoTime at which the given tick is due, for paced clocks
+    default long dueNanos(long tick) {
+        throw new UnsupportedOperationException("Clock is not paced");
+    }
+
+    // Run ticks back to back as fast as the CPU allows
+    static SimulationClock fastForward() {
+        return FastForwardClock.INSTANCE;
+    }
+
+    // Run one tick per period of wall-clock time
+    static SimulationClock realTime(long periodMillis) {
+        return new RealTimeClock(TimeUnit.MILLISECONDS.toNanos(periodMillis));
+    }
+
+    // Run real time sped up by the given factor, e.g. 1000 for 1000x
+    static SimulationClock scaled(long periodMillis, double speedup) {
+        if (speedup <= 0) {
+            throw new IllegalArgumentException("Speedup must be positive: " + speedup);
+        }
+        return new RealTimeClock((long) (TimeUnit.MILLISECONDS.toNanos(periodMillis) / speedup));
+    }
+}
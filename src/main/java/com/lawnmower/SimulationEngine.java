@@ -0,0 +1,70 @@
+package com.lawnmower;
+
+// Drives a LawnMower headless, without a Timer thread or any Swing class.
+// Ticks are paced by a SimulationClock, so the same run can go as fast as the
+// CPU allows, at a fixed real-time rate, or at a scaled rate.
+public class SimulationEngine {
+    private final LawnMower mower;
+    private final SimulationClock clock;
+    private long ticks;
+
+    public SimulationEngine(LawnMower mower, SimulationClock clock) {
+        if (mower == null || clock == null) {
+            throw new IllegalArgumentException("Mower and clock are required");
+        }
+        this.mower = mower;
+        this.clock = clock;
+    }
+
+    // Run until the mower finishes or is stopped; returns the ticks run. A
+    // paused mower holds the run until it is resumed.
+    public long run() {
+        return run(Long.MAX_VALUE);
+    }
+
+    // Run at most maxTicks ticks; the mower is stopped (keeping its position)
+    // if it has not finished by then, so a later run continues where it left off
+    public long run(long maxTicks) {
+        long ran = 0;
+        long resumedAt = 0; // Clock ticks count from the last (re)start
+        boolean paced = clock.isPaced();
+        boolean fastForward = clock == FastForwardClock.INSTANCE;
+        MowerMetrics metrics = mower.getMetrics();
+        clock.reset();
+        mower.begin();
+        try {
+            while (ran < maxTicks) {
+                MowerStatus status = mower.getStatus();
+                if (status == MowerStatus.PAUSED) {
+                    mower.awaitResume();
+                    clock.reset(); // No burst of catch-up ticks after a pause
+                    resumedAt = ran;
+                } else if (status == MowerStatus.MOWING && fastForward) {
+                    // Nothing to wait for, so let the mower jump ahead if it can
+                    ran += mower.advance(maxTicks - ran);
+                } else if (status == MowerStatus.MOWING) {
+                    clock.awaitTick(ran - resumedAt);
+                    if (paced) {
+                        metrics.recordTickJitter(System.nanoTime() - clock.dueNanos(ran - resumedAt));
+                    }
+                    mower.step();
+                    ran++;
+                } else {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            mower.flushBatch();
+            mower.stop();
+            ticks += ran;
+        }
+        return ran;
+    }
+
+    // Total ticks run by this engine
+    public long getTicks() {
+        return ticks;
+    }
+}
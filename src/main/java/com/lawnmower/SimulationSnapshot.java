@@ -0,0 +1,183 @@
+package com.lawnmower;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Point-in-time copy of a simulation: the lawn's bitmaps and, for every
+// mower, its region, coverage path and cursor, position, heading, mowing
+// flag, status, statistics, tick count and tick period. Captured into one compact byte array with
+// bulk copies, so a 1000x1000 lawn takes well under a millisecond, and
+// restored into fresh LawnState and LawnMower instances to branch what-if
+// runs from a common point. A LawnGrid can render the restored lawn.
+//
+// Layout, little-endian: int magic, int version, int rows, int cols,
+// byte has obstacles, int mower count, mowed words, obstacle words if any,
+// then one fixed-size record per mower.
+public final class SimulationSnapshot {
+    private static final int MAGIC = 0x534E4150; // "SNAP"
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 21;
+    // Path kind, shared-lawn flag, status, rows, cols, then LawnMower.writeState
+    private static final int MOWER_SIZE = 3 + 8 + 16 + 8 + 8 + 2 + 1 + 4 + 48 + 16;
+    private static final byte FREE_RUN_PATH = -1;
+    private static final byte CUSTOM_PATH = -2;
+    private static final CoverageStrategy[] STRATEGIES = CoverageStrategy.values();
+
+    private final byte[] data;
+    private final int rows;
+    private final int cols;
+    private final boolean obstacles;
+    private final int mowerCount;
+    private final int mowersOffset;
+
+    private SimulationSnapshot(byte[] data) {
+        ByteBuffer in = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        if (data.length < HEADER_SIZE || in.getInt() != MAGIC || in.getInt() != VERSION) {
+            throw new IllegalArgumentException("Not a simulation snapshot");
+        }
+        this.data = data;
+        this.rows = in.getInt();
+        this.cols = in.getInt();
+        this.obstacles = in.get() != 0;
+        this.mowerCount = in.getInt();
+        long words = ((long) rows * cols + 63) >>> 6;
+        long offset = HEADER_SIZE + words * Long.BYTES * (obstacles ? 2 : 1);
+        if (rows < 0 || cols < 0 || mowerCount < 0 || offset + (long) mowerCount * MOWER_SIZE != data.length) {
+            throw new IllegalArgumentException("Corrupt simulation snapshot");
+        }
+        this.mowersOffset = (int) offset;
+    }
+
+    // Capture a lawn and the mowers working on it. Call between ticks, from
+    // the thread stepping the mowers.
+    public static SimulationSnapshot capture(LawnState lawn, LawnMower... mowers) {
+        if (lawn == null || mowers == null) {
+            throw new IllegalArgumentException("Lawn and mowers are required");
+        }
+        long words = (long) lawn.getWordCount() * (lawn.hasObstacles() ? 2 : 1);
+        long size = HEADER_SIZE + words * Long.BYTES + (long) mowers.length * MOWER_SIZE;
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Lawn too large for an in-memory snapshot");
+        }
+        byte[] data = new byte[(int) size];
+        ByteBuffer out = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(MAGIC).putInt(VERSION).putInt(lawn.getRows()).putInt(lawn.getCols());
+        out.put((byte) (lawn.hasObstacles() ? 1 : 0)).putInt(mowers.length);
+
+        // Bulk copy through a long view of the same bytes
+        int bitmapBytes = (int) (words * Long.BYTES);
+        lawn.writeTo(out.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer());
+        out.position(out.position() + bitmapBytes);
+
+        for (LawnMower mower : mowers) {
+            out.put(pathKind(mower.getCoveragePath()));
+            out.put((byte) (mower.getLawn() == lawn ? 1 : 0));
+            out.put((byte) mower.getStatus().ordinal());
+            out.putInt(mower.getRows()).putInt(mower.getCols());
+            mower.writeState(out);
+        }
+        return new SimulationSnapshot(data);
+    }
+
+    public static SimulationSnapshot fromBytes(byte[] data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Snapshot data is required");
+        }
+        return new SimulationSnapshot(data.clone());
+    }
+
+    public static SimulationSnapshot read(Path file) throws IOException {
+        return new SimulationSnapshot(Files.readAllBytes(file));
+    }
+
+    public byte[] toByteArray() {
+        return data.clone();
+    }
+
+    public void write(Path file) throws IOException {
+        Files.write(file, data);
+    }
+
+    public int getMowerCount() {
+        return mowerCount;
+    }
+
+    // New lawn with the captured mowed cells and obstacles
+    public LawnState restoreLawn() {
+        LawnState lawn = new LawnState(rows, cols);
+        ByteBuffer in = ByteBuffer.wrap(data, HEADER_SIZE, mowersOffset - HEADER_SIZE).slice()
+                .order(ByteOrder.LITTLE_ENDIAN);
+        lawn.readFrom(in.asLongBuffer(), obstacles);
+        return lawn;
+    }
+
+    // New stopped mower in the captured state, claiming cells on the given
+    // lawn if it shared the captured one, with the same kind of coverage path
+    public LawnMower restoreMower(int index, LawnState lawn) {
+        return restoreMower(index, lawn, null);
+    }
+
+    // As above with a fresh instance of the mower's custom coverage path;
+    // null keeps the captured kind
+    public LawnMower restoreMower(int index, LawnState lawn, CoveragePath path) {
+        ByteBuffer in = mowerRecord(index);
+        byte kind = in.get();
+        boolean shared = in.get() != 0;
+        in.get(); // Status follows from the rest of the state
+        int mowerRows = in.getInt();
+        int mowerCols = in.getInt();
+        if (shared && lawn == null) {
+            throw new IllegalArgumentException("Mower " + index + " needs the restored lawn");
+        }
+        LawnMower mower = shared ? new LawnMower(lawn) : new LawnMower(mowerRows, mowerCols);
+        if (path != null) {
+            mower.setCoveragePath(path);
+        } else if (kind == CUSTOM_PATH) {
+            throw new IllegalArgumentException("Mower " + index + " used a custom coverage path; pass a new one");
+        } else if (kind >= 0) {
+            mower.setCoveragePath(STRATEGIES[kind].create());
+        } else if (!shared) {
+            throw new IllegalArgumentException("Mower " + index + " followed a lawn's free runs without sharing it");
+        }
+        mower.readState(in);
+        return mower;
+    }
+
+    // Whether the mower was mowing when captured; restored mowers are
+    // stopped, so restart these
+    public boolean wasMowing(int index) {
+        return getStatus(index) == MowerStatus.MOWING;
+    }
+
+    public MowerStatus getStatus(int index) {
+        return MowerStatus.values()[mowerRecord(index).get(2)];
+    }
+
+    private ByteBuffer mowerRecord(int index) {
+        if (index < 0 || index >= mowerCount) {
+            throw new IndexOutOfBoundsException("Mower " + index + " of " + mowerCount);
+        }
+        return ByteBuffer.wrap(data, mowersOffset + index * MOWER_SIZE, MOWER_SIZE).slice()
+                .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static byte pathKind(CoveragePath path) {
+        if (path instanceof FreeRunSerpentinePath) {
+            return FREE_RUN_PATH;
+        }
+        if (path instanceof SerpentinePath) {
+            return (byte) (((SerpentinePath) path).isByRows()
+                    ? CoverageStrategy.ROW_SERPENTINE : CoverageStrategy.COLUMN_SERPENTINE).ordinal();
+        }
+        if (path instanceof SpiralPath) {
+            return (byte) CoverageStrategy.SPIRAL.ordinal();
+        }
+        if (path instanceof ShortestDimensionFirstPath) {
+            return (byte) CoverageStrategy.SHORTEST_DIMENSION_FIRST.ordinal();
+        }
+        return CUSTOM_PATH;
+    }
+}
@@ -0,0 +1,137 @@
+package com.lawnmower;
+
+// Clockwise spiral from the top-left corner inwards, one ring at a time
+public class SpiralPath implements CoveragePath {
+    private int top;
+    private int left;
+    private int bottom;
+    private int right;
+    private long total;
+    private long position;
+
+    // Current ring bounds (inclusive) and the next cell on it
+    private int ringTop;
+    private int ringLeft;
+    private int ringBottom;
+    private int ringRight;
+    private int row;
+    private int col;
+    private int side; // 0 right, 1 down, 2 left, 3 up
+
+    @Override
+    public void reset(int top, int left, int bottom, int right) {
+        this.top = top;
+        this.left = left;
+        this.bottom = Math.max(top, bottom);
+        this.right = Math.max(left, right);
+        this.total = (long) (this.bottom - top) * (this.right - left);
+        seek(0);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return position < total;
+    }
+
+    @Override
+    public long next() {
+        long cell = CoveragePath.pack(row, col);
+        position++;
+        advance();
+        return cell;
+    }
+
+    @Override
+    public long position() {
+        return position;
+    }
+
+    // Skip whole rings arithmetically, then walk the partial ring
+    @Override
+    public void seek(long target) {
+        target = Math.max(0, Math.min(target, total));
+        ringTop = top;
+        ringLeft = left;
+        ringBottom = bottom - 1;
+        ringRight = right - 1;
+        position = 0;
+        while (ringTop <= ringBottom && ringLeft <= ringRight) {
+            long ring = ringSize();
+            if (position + ring > target) {
+                break;
+            }
+            position += ring;
+            shrink();
+        }
+        row = ringTop;
+        col = ringLeft;
+        side = 0;
+        while (position < target) {
+            position++;
+            advance();
+        }
+    }
+
+    private long ringSize() {
+        long height = ringBottom - ringTop + 1L;
+        long width = ringRight - ringLeft + 1L;
+        return height == 1 || width == 1 ? height * width : 2 * (height + width) - 4;
+    }
+
+    private void shrink() {
+        ringTop++;
+        ringLeft++;
+        ringBottom--;
+        ringRight--;
+    }
+
+    // Step to the next cell of the ring, or onto the next ring inwards
+    private void advance() {
+        switch (side) {
+            case 0:
+                if (col < ringRight) {
+                    col++;
+                    return;
+                }
+                side = 1;
+                if (row < ringBottom) {
+                    row++;
+                    return;
+                }
+                break;
+            case 1:
+                if (row < ringBottom) {
+                    row++;
+                    return;
+                }
+                side = 2;
+                if (col > ringLeft && ringBottom > ringTop) {
+                    col--;
+                    return;
+                }
+                break;
+            case 2:
+                if (col > ringLeft) {
+                    col--;
+                    return;
+                }
+                side = 3;
+                if (row > ringTop + 1 && ringRight > ringLeft) {
+                    row--;
+                    return;
+                }
+                break;
+            default:
+                if (row > ringTop + 1) {
+                    row--;
+                    return;
+                }
+                break;
+        }
+        // Ring finished: continue with the next one inwards
+        shrink();
+        row = ringTop;
+        col = ringLeft;
+        side = 0;
+    }
+}
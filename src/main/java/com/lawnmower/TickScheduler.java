@@ -0,0 +1,161 @@
+package com.lawnmower;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+
+// Tick service shared by timer-driven mowers. A fixed pool of daemon threads
+// runs every mower's ticks, each at its own period, so the thread count does
+// not grow with the fleet and starting, pausing or stopping a mower only
+// schedules or cancels a task. Ticks run at a fixed rate like
+// Timer.scheduleAtFixedRate: a late tick is followed by catch-up ticks, and
+// how late each tick ran against its due time is reported as drift.
+public final class TickScheduler implements AutoCloseable {
+    private final ScheduledThreadPoolExecutor executor;
+    private final AtomicInteger scheduled = new AtomicInteger();
+    private final boolean shared;
+
+    // Threads for the tick service every mower uses unless given another one
+    private static final class Shared {
+        static final TickScheduler INSTANCE = new TickScheduler(
+                Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())), "mower-tick", true);
+    }
+
+    // A scheduler of its own with the given number of threads
+    public TickScheduler(int threads) {
+        this(threads, "mower-tick-pool", false);
+    }
+
+    private TickScheduler(int threads, String name, boolean shared) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is required: " + threads);
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(threads, runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true); // Stopped mowers leave nothing queued
+        executor.prestartAllCoreThreads();
+        this.shared = shared;
+    }
+
+    public static TickScheduler shared() {
+        return Shared.INSTANCE;
+    }
+
+    // Run tick every periodNanos, starting now. Drift, the nanoseconds each
+    // tick started after it was due, goes to the listener before the tick.
+    public Ticket schedule(Runnable tick, long periodNanos, LongConsumer drift) {
+        return schedule(tick, 0, periodNanos, drift);
+    }
+
+    // Run tick every periodNanos, the first time after initialDelayNanos
+    public Ticket schedule(Runnable tick, long initialDelayNanos, long periodNanos, LongConsumer drift) {
+        if (tick == null || drift == null) {
+            throw new IllegalArgumentException("Tick and drift listener are required");
+        }
+        if (periodNanos < 1) {
+            throw new IllegalArgumentException("Tick period must be positive: " + periodNanos);
+        }
+        if (initialDelayNanos < 0) {
+            throw new IllegalArgumentException("Initial delay must not be negative: " + initialDelayNanos);
+        }
+        Ticket ticket = new Ticket(tick, System.nanoTime() + initialDelayNanos, periodNanos, drift);
+        scheduled.incrementAndGet();
+        ticket.start(executor.scheduleAtFixedRate(ticket, initialDelayNanos, periodNanos, TimeUnit.NANOSECONDS));
+        return ticket;
+    }
+
+    public int getThreadCount() {
+        return executor.getCorePoolSize();
+    }
+
+    // Tickets scheduled and not yet cancelled
+    public int getScheduledCount() {
+        return scheduled.get();
+    }
+
+    // Stop every tick and the threads; the shared scheduler lives as long as
+    // the JVM and cannot be closed
+    @Override
+    public void close() {
+        if (shared) {
+            throw new IllegalStateException("The shared tick scheduler cannot be closed");
+        }
+        executor.shutdownNow();
+    }
+
+    // One mower's recurring tick
+    public final class Ticket implements Runnable {
+        private final Runnable tick;
+        private final long periodNanos;
+        private final LongConsumer drift;
+        private final long startNanos; // When the first tick is due
+        private volatile boolean cancelled;
+        private ScheduledFuture<?> future;
+        private volatile long ticks; // Written only by the running tick
+
+        private Ticket(Runnable tick, long startNanos, long periodNanos, LongConsumer drift) {
+            this.tick = tick;
+            this.startNanos = startNanos;
+            this.periodNanos = periodNanos;
+            this.drift = drift;
+        }
+
+        @Override
+        public void run() {
+            if (cancelled) {
+                return;
+            }
+            drift.accept(System.nanoTime() - (startNanos + ticks * periodNanos));
+            ticks++;
+            try {
+                tick.run();
+            } catch (RuntimeException e) {
+                // A failed tick must not silently end the schedule
+                MowerLog.warn("Mower tick failed: " + e);
+            }
+        }
+
+        private synchronized void start(ScheduledFuture<?> scheduledFuture) {
+            future = scheduledFuture;
+            if (cancelled) { // Cancelled before it was scheduled
+                scheduledFuture.cancel(false);
+            }
+        }
+
+        // Stop ticking; a tick already running finishes
+        public synchronized void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                scheduled.decrementAndGet();
+                if (future != null) {
+                    future.cancel(false);
+                }
+            }
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public long getPeriodNanos() {
+            return periodNanos;
+        }
+
+        // Ticks run so far
+        public long getTicks() {
+            return ticks;
+        }
+
+        // System.nanoTime the latest tick was due, or the first one if none
+        // has run yet
+        public long getLastDueNanos() {
+            return startNanos + Math.max(0, ticks - 1) * periodNanos;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.lawnmower;
+
+// Rectangular piece of a lawn: rows [top, bottom), columns [left, right)
+public final class Tile {
+    private final int top;
+    private final int left;
+    private final int bottom;
+    private final int right;
+
+    public Tile(int top, int left, int bottom, int right) {
+        if (bottom < top || right < left) {
+            throw new IllegalArgumentException("Invalid tile bounds: " + top + "," + left + " to " + bottom + "," + right);
+        }
+        this.top = top;
+        this.left = left;
+        this.bottom = bottom;
+        this.right = right;
+    }
+
+    public int getTop() {
+        return top;
+    }
+
+    public int getLeft() {
+        return left;
+    }
+
+    public int getBottom() {
+        return bottom;
+    }
+
+    public int getRight() {
+        return right;
+    }
+
+    public long getArea() {
+        return (long) (bottom - top) * (right - left);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Tile)) {
+            return false;
+        }
+        Tile tile = (Tile) other;
+        return top == tile.top && left == tile.left && bottom == tile.bottom && right == tile.right;
+    }
+
+    @Override
+    public int hashCode() {
+        return ((top * 31 + left) * 31 + bottom) * 31 + right;
+    }
+
+    @Override
+    public String toString() {
+        return "Tile[" + top + "," + left + " to " + bottom + "," + right + "]";
+    }
+}
@@ -0,0 +1,336 @@
+package com.lawnmower;
+
+import java.util.Arrays;
+
+// Shortest drive between two free cells of a lawn with obstacles, for when
+// the mower has to cross already-mowed grass to reach the next unmowed cell.
+// A* with jump point search for 4-connected grids: straight runs are jumped
+// over and only cells where the path may turn enter the open set. The open
+// set is a binary heap of node indices and all per-node state lives in
+// scratch arrays stamped with a query number, so a query allocates nothing
+// once the scratch exists. Most gaps need no search at all: when a drive
+// along the row and the column (either way round) is clear, the distance is
+// the straight one, checked against the lawn's free runs. The scratch, 28
+// bytes per cell, is only allocated for the first real search.
+public class TransitPlanner {
+    private static final int NOT_OPEN = -1;
+    private static final int CLOSED = -2;
+    // Planner of the last lawn planned on by each stepping thread, so mowers
+    // stepped on the same thread share one set of scratch arrays
+    private static final ThreadLocal<TransitPlanner> SHARED = new ThreadLocal<>();
+
+    private final LawnState lawn;
+    private final int rows;
+    private final int cols;
+
+    // Per-node scratch; a node's entries are valid only if its stamp matches
+    private int[] stamp;
+    private int[] cost;      // Distance from the start
+    private int[] estimate;  // Cost plus distance to the goal
+    private int[] parent;
+    private int[] heapIndex; // Position in the heap, NOT_OPEN or CLOSED
+    private int[] heap;
+    private int heapSize;
+    private int query;
+
+    private int goal;
+    private int[] waypoints;
+    private int waypointCount;
+    private long expandedNodes;
+
+    public TransitPlanner(LawnState lawn) {
+        if (lawn == null) {
+            throw new IllegalArgumentException("Lawn is required");
+        }
+        if (lawn.getCellCount() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Lawn too large to plan on: " + lawn.getRows() + "x" + lawn.getCols());
+        }
+        this.lawn = lawn;
+        this.rows = lawn.getRows();
+        this.cols = lawn.getCols();
+    }
+
+    // Planner for the lawn owned by the calling thread; mowers call this per
+    // gap instead of each keeping a planner and its scratch
+    static TransitPlanner forCurrentThread(LawnState lawn) {
+        TransitPlanner planner = SHARED.get();
+        if (planner == null || planner.lawn != lawn) {
+            planner = new TransitPlanner(lawn);
+            SHARED.set(planner);
+        }
+        return planner;
+    }
+
+    // Length of the shortest obstacle-free drive between two cells, moving
+    // one cell up, down, left or right at a time, or -1 if there is none
+    public int distance(int fromRow, int fromCol, int toRow, int toCol) {
+        waypointCount = 0;
+        if (!isFree(fromRow, fromCol) || !isFree(toRow, toCol)) {
+            return -1;
+        }
+        int start = fromRow * cols + fromCol;
+        goal = toRow * cols + toCol;
+        if (straightDrive(fromRow, fromCol, toRow, toCol)) {
+            return Math.abs(toRow - fromRow) + Math.abs(toCol - fromCol);
+        }
+        beginQuery();
+        open(start, 0, -1);
+
+        while (heapSize > 0) {
+            int node = pop();
+            if (node == goal) {
+                recordWaypoints(node);
+                return cost[node];
+            }
+            expandedNodes++;
+            expand(node);
+        }
+        return -1;
+    }
+
+    // Turning points of the last path found, from start to goal inclusive
+    public int getWaypointCount() {
+        return waypointCount;
+    }
+
+    // Packed cell of a waypoint, see CoveragePath.pack
+    public long getWaypoint(int i) {
+        if (i < 0 || i >= waypointCount) {
+            throw new IndexOutOfBoundsException("Waypoint " + i + " of " + waypointCount);
+        }
+        int node = waypoints[i];
+        return CoveragePath.pack(node / cols, node % cols);
+    }
+
+    // Jump points taken off the open set over all queries
+    public long getExpandedNodes() {
+        return expandedNodes;
+    }
+
+    // No search when the Manhattan drive is clear: along the start row then
+    // the goal column, or along the start column then the goal row. Records
+    // the start, corner and goal as waypoints.
+    private boolean straightDrive(int fromRow, int fromCol, int toRow, int toCol) {
+        TraversabilityIndex index = lawn.getTraversability();
+        int corner;
+        if (rowClear(index, fromRow, fromCol, toCol) && columnClear(toCol, fromRow, toRow)) {
+            corner = fromRow * cols + toCol;
+        } else if (columnClear(fromCol, fromRow, toRow) && rowClear(index, toRow, fromCol, toCol)) {
+            corner = toRow * cols + fromCol;
+        } else {
+            return false;
+        }
+        if (waypoints == null) {
+            waypoints = new int[3];
+        }
+        int start = fromRow * cols + fromCol;
+        waypoints[0] = start;
+        waypointCount = 1;
+        if (corner != start && corner != goal) {
+            waypoints[waypointCount++] = corner;
+        }
+        if (goal != start) {
+            waypoints[waypointCount++] = goal;
+        }
+        return true;
+    }
+
+    // Whether fromCol and toCol lie in the same free run of the row
+    private static boolean rowClear(TraversabilityIndex index, int row, int fromCol, int toCol) {
+        int run = index.findRun(row, fromCol);
+        return run >= 0 && index.getRunFrom(run) <= toCol && toCol < index.getRunTo(run);
+    }
+
+    // Whether the cells after fromRow up to toRow of the column are free
+    private boolean columnClear(int col, int fromRow, int toRow) {
+        int step = Integer.signum(toRow - fromRow);
+        for (int row = fromRow; row != toRow; row += step) {
+            if (!isFree(row + step, col)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Start a query: allocate scratch once, otherwise just bump the stamp
+    private void beginQuery() {
+        if (stamp == null) {
+            int nodes = rows * cols;
+            stamp = new int[nodes];
+            cost = new int[nodes];
+            estimate = new int[nodes];
+            parent = new int[nodes];
+            heapIndex = new int[nodes];
+            heap = new int[nodes];
+            waypoints = new int[nodes];
+        }
+        if (++query == 0) {
+            Arrays.fill(stamp, 0);
+            query = 1;
+        }
+        heapSize = 0;
+    }
+
+    // Successors pruned by the direction the node was reached from. Vertical
+    // moves come first on a canonical path: a vertical jump also scans both
+    // horizontal directions, and a horizontal jump only turns where an
+    // obstacle behind it opens up a vertical way.
+    private void expand(int node) {
+        int row = node / cols;
+        int col = node % cols;
+        int from = parent[node];
+        if (from < 0) {
+            relax(node, jumpVertical(row, col, -1));
+            relax(node, jumpVertical(row, col, 1));
+            relax(node, jumpHorizontal(row, col, -1));
+            relax(node, jumpHorizontal(row, col, 1));
+            return;
+        }
+        int stepRow = Integer.signum(row - from / cols);
+        int stepCol = Integer.signum(col - from % cols);
+        if (stepCol == 0) {
+            relax(node, jumpVertical(row, col, stepRow));
+            relax(node, jumpHorizontal(row, col, -1));
+            relax(node, jumpHorizontal(row, col, 1));
+        } else {
+            relax(node, jumpHorizontal(row, col, stepCol));
+            if (isFree(row - 1, col) && !isFree(row - 1, col - stepCol)) {
+                relax(node, jumpVertical(row, col, -1));
+            }
+            if (isFree(row + 1, col) && !isFree(row + 1, col - stepCol)) {
+                relax(node, jumpVertical(row, col, 1));
+            }
+        }
+    }
+
+    // Next jump point moving horizontally, or -1 on hitting an obstacle
+    private int jumpHorizontal(int row, int col, int step) {
+        while (true) {
+            col += step;
+            if (!isFree(row, col)) {
+                return -1;
+            }
+            int node = row * cols + col;
+            if (node == goal) {
+                return node;
+            }
+            // Forced neighbour: a vertical way that was walled off behind us
+            if ((isFree(row - 1, col) && !isFree(row - 1, col - step))
+                    || (isFree(row + 1, col) && !isFree(row + 1, col - step))) {
+                return node;
+            }
+        }
+    }
+
+    // Next jump point moving vertically, or -1 on hitting an obstacle
+    private int jumpVertical(int row, int col, int step) {
+        while (true) {
+            row += step;
+            if (!isFree(row, col)) {
+                return -1;
+            }
+            int node = row * cols + col;
+            if (node == goal
+                    || jumpHorizontal(row, col, -1) >= 0
+                    || jumpHorizontal(row, col, 1) >= 0) {
+                return node;
+            }
+        }
+    }
+
+    // Reach a jump point from a node along a straight line
+    private void relax(int node, int next) {
+        if (next < 0) {
+            return;
+        }
+        int length = Math.abs(next / cols - node / cols) + Math.abs(next % cols - node % cols);
+        open(next, cost[node] + length, node);
+    }
+
+    private void open(int node, int nodeCost, int from) {
+        if (stamp[node] != query) {
+            stamp[node] = query;
+            heapIndex[node] = NOT_OPEN;
+        } else if (heapIndex[node] == CLOSED || nodeCost >= cost[node]) {
+            return;
+        }
+        cost[node] = nodeCost;
+        estimate[node] = nodeCost + Math.abs(node / cols - goal / cols) + Math.abs(node % cols - goal % cols);
+        parent[node] = from;
+        if (heapIndex[node] == NOT_OPEN) {
+            heap[heapSize] = node;
+            heapIndex[node] = heapSize++;
+        }
+        siftUp(heapIndex[node]);
+    }
+
+    private int pop() {
+        int top = heap[0];
+        heapIndex[top] = CLOSED;
+        if (--heapSize > 0) {
+            heap[0] = heap[heapSize];
+            heapIndex[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    // Lower estimate first; on ties the node closer to the goal
+    private boolean before(int a, int b) {
+        return estimate[a] < estimate[b] || (estimate[a] == estimate[b] && cost[a] > cost[b]);
+    }
+
+    private void siftUp(int i) {
+        int node = heap[i];
+        while (i > 0) {
+            int up = (i - 1) >>> 1;
+            if (!before(node, heap[up])) {
+                break;
+            }
+            heap[i] = heap[up];
+            heapIndex[heap[i]] = i;
+            i = up;
+        }
+        heap[i] = node;
+        heapIndex[node] = i;
+    }
+
+    private void siftDown(int i) {
+        int node = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && before(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!before(heap[child], node)) {
+                break;
+            }
+            heap[i] = heap[child];
+            heapIndex[heap[i]] = i;
+            i = child;
+        }
+        heap[i] = node;
+        heapIndex[node] = i;
+    }
+
+    private void recordWaypoints(int node) {
+        int count = 0;
+        for (int n = node; n >= 0; n = parent[n]) {
+            waypoints[count++] = n;
+        }
+        // Parents run goal to start; reverse in place
+        for (int i = 0, j = count - 1; i < j; i++, j--) {
+            int swap = waypoints[i];
+            waypoints[i] = waypoints[j];
+            waypoints[j] = swap;
+        }
+        waypointCount = count;
+    }
+
+    private boolean isFree(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols && !lawn.isObstacle(row, col);
+    }
+}
@@ -0,0 +1,241 @@
+package com.lawnmower;
+
+import java.util.Arrays;
+
+// Precomputed view of where a mower can drive on a lawn with obstacles. Each
+// row is split into free runs (maximal spans of mowable cells), stored flat
+// with per-row offsets; runs that touch across neighbouring rows are joined
+// into connected components. Built once per obstacle layout, then read-only,
+// so it can be shared between mowers.
+public class TraversabilityIndex {
+    private final int rows;
+    private final int cols;
+    // Runs of row r are rowStart[r] .. rowStart[r + 1] - 1, sorted by column
+    private final int[] rowStart;
+    private final int[] runFrom; // First free column of a run
+    private final int[] runTo;   // Column just past the run
+    private final int[] runComponent;
+    private final long[] componentSize;
+    private final long freeCells;
+
+    public TraversabilityIndex(LawnState lawn) {
+        this.rows = lawn.getRows();
+        this.cols = lawn.getCols();
+        this.rowStart = new int[rows + 1];
+
+        int[] from = new int[Math.max(16, rows)];
+        int[] to = new int[from.length];
+        int count = 0;
+        long free = 0;
+        for (int row = 0; row < rows; row++) {
+            rowStart[row] = count;
+            int col = lawn.nextFree(row, 0);
+            while (col < cols) {
+                int end = lawn.nextObstacle(row, col);
+                if (count == from.length) {
+                    from = Arrays.copyOf(from, count * 2);
+                    to = Arrays.copyOf(to, count * 2);
+                }
+                from[count] = col;
+                to[count] = end;
+                count++;
+                free += end - col;
+                col = lawn.nextFree(row, end);
+            }
+        }
+        rowStart[rows] = count;
+        this.runFrom = Arrays.copyOf(from, count);
+        this.runTo = Arrays.copyOf(to, count);
+        this.freeCells = free;
+
+        // Union runs that overlap a run in the row above
+        int[] parent = new int[count];
+        for (int i = 0; i < count; i++) {
+            parent[i] = i;
+        }
+        for (int row = 1; row < rows; row++) {
+            int above = rowStart[row - 1];
+            int aboveEnd = rowStart[row];
+            int below = rowStart[row];
+            int belowEnd = rowStart[row + 1];
+            while (above < aboveEnd && below < belowEnd) {
+                if (runFrom[above] < runTo[below] && runFrom[below] < runTo[above]) {
+                    union(parent, above, below);
+                }
+                // Advance whichever run ends first
+                if (runTo[above] < runTo[below]) {
+                    above++;
+                } else {
+                    below++;
+                }
+            }
+        }
+
+        // Number the components densely and total their cells
+        this.runComponent = new int[count];
+        int[] label = new int[count];
+        Arrays.fill(label, -1);
+        int components = 0;
+        for (int i = 0; i < count; i++) {
+            int root = find(parent, i);
+            if (label[root] < 0) {
+                label[root] = components++;
+            }
+            runComponent[i] = label[root];
+        }
+        this.componentSize = new long[components];
+        for (int i = 0; i < count; i++) {
+            componentSize[runComponent[i]] += runTo[i] - runFrom[i];
+        }
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    // Mowable cells on the whole lawn
+    public long getFreeCellCount() {
+        return freeCells;
+    }
+
+    public int getRunCount() {
+        return runFrom.length;
+    }
+
+    // Number of free runs in a row
+    public int getRunCount(int row) {
+        return rowStart[row + 1] - rowStart[row];
+    }
+
+    // Index of the first run of a row; runs of the row follow consecutively
+    public int firstRun(int row) {
+        return rowStart[row];
+    }
+
+    // Index just past the last run of a row
+    public int endRun(int row) {
+        return rowStart[row + 1];
+    }
+
+    public int getRunFrom(int run) {
+        return runFrom[run];
+    }
+
+    public int getRunTo(int run) {
+        return runTo[run];
+    }
+
+    // First run of the row ending after col, or endRun(row) if none
+    public int runEndingAfter(int row, int col) {
+        int low = rowStart[row];
+        int high = rowStart[row + 1];
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (runTo[mid] <= col) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Last run of the row starting before col, or firstRun(row) - 1 if none
+    public int runStartingBefore(int row, int col) {
+        int low = rowStart[row];
+        int high = rowStart[row + 1];
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (runFrom[mid] < col) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+    // Run containing a cell, or -1 for obstacles and cells off the lawn
+    public int findRun(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return -1;
+        }
+        int run = runEndingAfter(row, col);
+        return run < rowStart[row + 1] && runFrom[run] <= col ? run : -1;
+    }
+
+    public boolean isFree(int row, int col) {
+        return findRun(row, col) >= 0;
+    }
+
+    // First free column >= col in the row, or cols if none; a whole blocked
+    // span is skipped in one lookup
+    public int nextFree(int row, int col) {
+        if (row < 0 || row >= rows || col >= cols) {
+            return cols;
+        }
+        int from = Math.max(0, col);
+        int run = runEndingAfter(row, from);
+        return run < rowStart[row + 1] ? Math.max(from, runFrom[run]) : cols;
+    }
+
+    // Free cells of the row in columns [fromCol, toCol)
+    public int countFree(int row, int fromCol, int toCol) {
+        int count = 0;
+        int end = rowStart[row + 1];
+        for (int run = runEndingAfter(row, fromCol); run < end && runFrom[run] < toCol; run++) {
+            count += Math.min(runTo[run], toCol) - Math.max(runFrom[run], fromCol);
+        }
+        return count;
+    }
+
+    public int getComponentCount() {
+        return componentSize.length;
+    }
+
+    // Connected component of a run
+    public int componentOfRun(int run) {
+        return runComponent[run];
+    }
+
+    // Connected component of a cell, or -1 for obstacles and cells off the lawn
+    public int component(int row, int col) {
+        int run = findRun(row, col);
+        return run < 0 ? -1 : runComponent[run];
+    }
+
+    public long getComponentSize(int component) {
+        return componentSize[component];
+    }
+
+    // Whether a mower can drive from one free cell to another
+    public boolean isConnected(int fromRow, int fromCol, int toRow, int toCol) {
+        int component = component(fromRow, fromCol);
+        return component >= 0 && component == component(toRow, toCol);
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]]; // Path halving
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            // Keep the lower run as root so labels follow row-major order
+            if (rootA < rootB) {
+                parent[rootB] = rootA;
+            } else {
+                parent[rootA] = rootB;
+            }
+        }
+    }
+}
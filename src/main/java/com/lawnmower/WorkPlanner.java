@@ -0,0 +1,156 @@
+package com.lawnmower;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Splits a lawn into tiles and hands them out to a fleet. Tiles are laid out
+// in serpentine order, so consecutive tiles touch, and each mower receives a
+// contiguous run of that order holding an equal share of the area. A mower
+// takes tiles from the front of its own queue; once that is empty it steals
+// from the back of the queue with the most area left, fork/join style.
+public class WorkPlanner {
+    private final ConcurrentLinkedDeque<Tile>[] queues;
+    private final AtomicLong[] remainingArea;
+    private final AtomicInteger stolenTiles = new AtomicInteger();
+    private final int tileCount;
+    private final boolean stealing;
+
+    // One horizontal strip per mower. Strips stay with their owner: stealing a
+    // whole strip from a mower whose thread has not started yet would only
+    // unbalance the fleet.
+    public static WorkPlanner strips(int rows, int cols, int mowers) {
+        List<Tile> strips = new ArrayList<>(mowers);
+        for (int i = 0; i < mowers; i++) {
+            int top = (int) ((long) rows * i / mowers);
+            int bottom = (int) ((long) rows * (i + 1) / mowers);
+            strips.add(new Tile(top, 0, bottom, cols));
+        }
+        return new WorkPlanner(strips, mowers, true);
+    }
+
+    // Tiles of at most tileRows x tileCols cells, balanced across the mowers
+    public static WorkPlanner tiles(int rows, int cols, int tileRows, int tileCols, int mowers) {
+        if (tileRows < 1 || tileCols < 1) {
+            throw new IllegalArgumentException("Tile size must be positive: " + tileRows + "x" + tileCols);
+        }
+        List<Tile> ordered = new ArrayList<>();
+        int bandIndex = 0;
+        for (int top = 0; top < rows; top += tileRows, bandIndex++) {
+            int bottom = Math.min(rows, top + tileRows);
+            List<Tile> band = new ArrayList<>();
+            for (int left = 0; left < cols; left += tileCols) {
+                band.add(new Tile(top, left, bottom, Math.min(cols, left + tileCols)));
+            }
+            // Alternate direction per band so the next tile is always adjacent
+            if (bandIndex % 2 == 1) {
+                Collections.reverse(band);
+            }
+            ordered.addAll(band);
+        }
+        return new WorkPlanner(ordered, mowers, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private WorkPlanner(List<Tile> ordered, int mowers, boolean onePerMower) {
+        if (mowers < 1) {
+            throw new IllegalArgumentException("At least one mower is required");
+        }
+        this.queues = new ConcurrentLinkedDeque[mowers];
+        this.remainingArea = new AtomicLong[mowers];
+        for (int i = 0; i < mowers; i++) {
+            queues[i] = new ConcurrentLinkedDeque<>();
+            remainingArea[i] = new AtomicLong();
+        }
+        this.tileCount = ordered.size();
+        this.stealing = !onePerMower;
+
+        if (onePerMower) {
+            for (int i = 0; i < ordered.size(); i++) {
+                enqueue(i, ordered.get(i));
+            }
+        } else {
+            distribute(ordered, mowers);
+        }
+    }
+
+    // Next tile for the given mower, or null once every tile is handed out
+    public Tile next(int mower) {
+        Tile own = queues[mower].pollFirst();
+        if (own != null) {
+            remainingArea[mower].addAndGet(-own.getArea());
+            return own;
+        }
+        return stealing ? steal(mower) : null;
+    }
+
+    public int getMowerCount() {
+        return queues.length;
+    }
+
+    public int getTileCount() {
+        return tileCount;
+    }
+
+    // Tiles taken from another mower's queue
+    public int getStolenTiles() {
+        return stolenTiles.get();
+    }
+
+    // Area still queued for a mower
+    public long getRemainingArea(int mower) {
+        return remainingArea[mower].get();
+    }
+
+    // Take the last tile of the busiest queue; retry while queues still have work
+    private Tile steal(int thief) {
+        while (true) {
+            int victim = -1;
+            long most = 0;
+            for (int i = 0; i < queues.length; i++) {
+                long area = remainingArea[i].get();
+                if (i != thief && area > most && !queues[i].isEmpty()) {
+                    most = area;
+                    victim = i;
+                }
+            }
+            if (victim < 0) {
+                return null;
+            }
+            Tile stolen = queues[victim].pollLast();
+            if (stolen != null) {
+                remainingArea[victim].addAndGet(-stolen.getArea());
+                stolenTiles.incrementAndGet();
+                return stolen;
+            }
+        }
+    }
+
+    // Cut the serpentine order into contiguous runs of roughly equal area
+    private void distribute(List<Tile> ordered, int mowers) {
+        long total = 0;
+        for (Tile tile : ordered) {
+            total += tile.getArea();
+        }
+        long assigned = 0;
+        int mower = 0;
+        for (Tile tile : ordered) {
+            // Move on once this mower's share is used up, keeping the tile with
+            // whichever mower leaves the split closer to the ideal boundary
+            long boundary = total * (mower + 1) / mowers;
+            if (mower < mowers - 1 && assigned + tile.getArea() / 2 >= boundary) {
+                mower++;
+            }
+            enqueue(mower, tile);
+            assigned += tile.getArea();
+        }
+    }
+
+    private void enqueue(int mower, Tile tile) {
+        queues[mower].addLast(tile);
+        remainingArea[mower].addAndGet(tile.getArea());
+    }
+}
@@ -0,0 +1,125 @@
+package com.lawnmower;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BatchRunnerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        MowerLog.setLevel(LogLevel.WARN);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MowerLog.setLevel(LogLevel.INFO);
+    }
+
+    private static List<Scenario> smallMatrix() {
+        return Scenario.matrix(new int[][] {{10, 10}, {20, 30}}, new double[] {0, 0.2}, new int[] {1, 3},
+                new CoverageStrategy[] {null, CoverageStrategy.ROW_SERPENTINE}, 2, 7);
+    }
+
+    @Test
+    @DisplayName("Matrix should hold every combination with its own id and seed")
+    void testMatrix() {
+        List<Scenario> scenarios = smallMatrix();
+        assertEquals(2 * 2 * 2 * 2 * 2, scenarios.size(), "Every combination, twice");
+        Set<Long> seeds = new HashSet<>();
+        for (int i = 0; i < scenarios.size(); i++) {
+            assertEquals(i, scenarios.get(i).getId(), "Ids should be sequential");
+            seeds.add(scenarios.get(i).getSeed());
+        }
+        assertEquals(scenarios.size(), seeds.size(), "Seeds should differ");
+        assertEquals("FREE_RUN", scenarios.get(0).getStrategyName(), "Null strategy is the free-run path");
+    }
+
+    @Test
+    @DisplayName("Scenario should reject impossible settings")
+    void testScenarioValidation() {
+        assertThrows(IllegalArgumentException.class, () -> new Scenario(0, 0, 5, 0, 1, null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new Scenario(0, 5, 5, 1.0, 1, null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new Scenario(0, 5, 5, Double.NaN, 1, null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new Scenario(0, 5, 5, 0, 0, null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new BatchRunner(0));
+    }
+
+    @Test
+    @DisplayName("Simulation should mow every free cell and split ticks across the fleet")
+    void testSimulate() {
+        ScenarioResult solo = BatchRunner.simulate(new Scenario(0, 20, 20, 0, 1, null, 1));
+        assertEquals(400, solo.getCellsMowed(), "Every cell mowed");
+        assertEquals(400, solo.getCompletionTicks(), "One tick per cell");
+        assertEquals(0, solo.getObstacleCells(), "No obstacles");
+
+        ScenarioResult fleet = BatchRunner.simulate(new Scenario(1, 20, 20, 0, 4, null, 1));
+        assertEquals(400, fleet.getCellsMowed(), "Every cell mowed once");
+        assertEquals(100, fleet.getCompletionTicks(), "Four strips mowed side by side");
+
+        ScenarioResult blocked = BatchRunner.simulate(new Scenario(2, 30, 30, 0.2, 2, null, 5));
+        assertTrue(blocked.getObstacleCells() > 0, "Some cells should be blocked");
+        assertEquals(900 - blocked.getObstacleCells(), blocked.getCellsMowed(), "Every free cell mowed");
+    }
+
+    @Test
+    @DisplayName("Same seed should give the same result")
+    void testDeterministic() {
+        Scenario scenario = new Scenario(0, 40, 40, 0.1, 3, CoverageStrategy.SPIRAL, 99);
+        ScenarioResult first = BatchRunner.simulate(scenario);
+        ScenarioResult second = BatchRunner.simulate(scenario);
+        assertEquals(first.getObstacleCells(), second.getObstacleCells(), "Same obstacles");
+        assertEquals(first.getCompletionTicks(), second.getCompletionTicks(), "Same completion");
+        assertEquals(first.getDistance(), second.getDistance(), "Same distance");
+        assertEquals(first.getTurns(), second.getTurns(), "Same turns");
+    }
+
+    @Test
+    @DisplayName("Parallel batch should match running each scenario alone")
+    void testParallelMatchesSequential() throws InterruptedException {
+        List<Scenario> scenarios = smallMatrix();
+        List<ScenarioResult> results = new ArrayList<>();
+        long count = new BatchRunner(4).run(scenarios, results::add);
+
+        assertEquals(scenarios.size(), count, "Every scenario should report");
+        assertEquals(scenarios.size(), results.size(), "Every result delivered");
+        for (ScenarioResult result : results) {
+            ScenarioResult alone = BatchRunner.simulate(result.getScenario());
+            assertEquals(alone.getCompletionTicks(), result.getCompletionTicks(),
+                    "Scenario " + result.getScenario().getId() + " completion");
+            assertEquals(alone.getTurns(), result.getTurns(), "Scenario " + result.getScenario().getId() + " turns");
+        }
+    }
+
+    @Test
+    @DisplayName("Batch should stream one CSV row per scenario")
+    void testCsvOutput() throws IOException, InterruptedException {
+        Path csv = tempDir.resolve("results.csv");
+        List<Scenario> scenarios = smallMatrix();
+        new BatchRunner(2).run(scenarios, csv);
+
+        List<String> lines = Files.readAllLines(csv);
+        assertEquals(ScenarioResult.CSV_HEADER, lines.get(0), "Header first");
+        assertEquals(scenarios.size() + 1, lines.size(), "One row per scenario");
+        int columns = ScenarioResult.CSV_HEADER.split(",").length;
+        for (String line : lines) {
+            assertEquals(columns, line.split(",").length, "Every row has every column: " + line);
+        }
+    }
+}
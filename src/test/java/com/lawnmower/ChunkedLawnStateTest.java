@@ -0,0 +1,171 @@
+package com.lawnmower;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChunkedLawnStateTest {
+
+    @Test
+    @DisplayName("Only cells inside lawn parcels should be mowable")
+    void testIrregularLawn() {
+        ChunkedLawnState lawn = new ChunkedLawnState(300, 300);
+        lawn.addLawn(10, 10, 20, 100);   // Straddles two tile columns
+        lawn.addLawn(15, 90, 200, 110);  // Overlaps the first parcel
+
+        assertTrue(lawn.isLawn(10, 10), "Parcel corner is lawn");
+        assertFalse(lawn.isLawn(9, 10), "Cell above the parcel is not lawn");
+        assertEquals(10 * 90 + 185 * 20 - 5 * 10, lawn.getLawnCellCount(), "Overlap counted once");
+
+        lawn.mow(9, 10);
+        lawn.mow(150, 95);
+        assertFalse(lawn.isMowed(9, 10), "Cells outside the lawn are ignored");
+        assertTrue(lawn.isMowed(150, 95), "Lawn cell should be mowed");
+        assertTrue(lawn.tryMow(150, 96), "First claim should win");
+        assertFalse(lawn.tryMow(150, 96), "Second claim should lose");
+        assertFalse(lawn.tryMow(250, 250), "Cells outside the lawn cannot be claimed");
+
+        lawn.clear(150, 95);
+        assertEquals(1, lawn.getMowedCount(), "Cleared cell should no longer count");
+    }
+
+    @Test
+    @DisplayName("Range mowing should stay inside the lawn shape")
+    void testMowRange() {
+        ChunkedLawnState lawn = new ChunkedLawnState(64, 300);
+        lawn.addLawn(0, 30, 64, 70);
+        lawn.addLawn(0, 200, 64, 260);
+
+        lawn.mowRange(5, 0, 300);
+
+        assertEquals(40 + 60, lawn.getMowedCount(), "Only lawn cells of the row are mowed");
+        assertFalse(lawn.isMowed(5, 100), "Gap between parcels stays unmowed");
+        assertTrue(lawn.isMowed(5, 259), "Last lawn cell of the row is mowed");
+    }
+
+    @Test
+    @DisplayName("Only tiles containing lawn should be allocated")
+    void testSparseAllocation() {
+        ChunkedLawnState lawn = new ChunkedLawnState(100_000, 100_000);
+        lawn.addLawn(0, 0, 640, 640);               // 100 full tiles
+        lawn.addLawn(50_000, 50_010, 50_100, 50_050); // Irregular green
+
+        assertEquals(100 + 4, lawn.getTileCount(), "Tiles should follow the lawn area");
+        assertTrue(lawn.getAllocatedBytes() < 16L * 1024 * 1024, "Golf-course bounds should stay small");
+        assertEquals(640 * 640 + 100 * 40, lawn.getLawnCellCount(), "Lawn area should be exact");
+    }
+
+    @Test
+    @DisplayName("A headless mower should record into a chunked lawn")
+    void testRecordsSimulation() {
+        ChunkedLawnState lawn = new ChunkedLawnState(70, 70);
+        lawn.addLawn(0, 0, 70, 70);
+        LawnMower mower = new LawnMower(70, 70);
+        mower.addObserver(lawn);
+
+        new SimulationEngine(mower, SimulationClock.fastForward()).run();
+
+        assertTrue(lawn.isFullyMowed(), "Every lawn cell should be mowed");
+        assertEquals(100.0, lawn.getPercentMowed(), "Lawn should be fully mowed");
+    }
+
+    @Test
+    @DisplayName("Lawn path should visit every lawn cell once in serpentine order")
+    void testLawnPath() {
+        ChunkedLawnState lawn = new ChunkedLawnState(300, 300);
+        lawn.addLawn(10, 10, 20, 100);
+        lawn.addLawn(15, 90, 200, 110);
+        lawn.addLawn(100, 250, 101, 251); // Lone cell past a gap
+        ChunkedLawnPath path = new ChunkedLawnPath(lawn);
+        path.reset(0, 0, 300, 300);
+
+        boolean[][] seen = new boolean[300][300];
+        long previous = -1;
+        long count = 0;
+        while (path.hasNext()) {
+            long cell = path.next();
+            int row = CoveragePath.row(cell);
+            int col = CoveragePath.col(cell);
+            assertTrue(lawn.isLawn(row, col), "Only lawn cells are visited: " + row + "," + col);
+            assertFalse(seen[row][col], "No cell is visited twice: " + row + "," + col);
+            seen[row][col] = true;
+            if (previous >= 0 && CoveragePath.row(previous) == row) {
+                // Even lanes left to right, odd lanes right to left
+                assertEquals(row % 2 == 0, col > CoveragePath.col(previous), "Lane direction in row " + row);
+            }
+            previous = cell;
+            count++;
+        }
+        assertEquals(lawn.getLawnCellCount(), count, "Every lawn cell is visited");
+        assertEquals(count, path.position(), "Position counts the cells returned");
+
+        // Seeking lands on the same cell as walking there
+        for (long target : new long[] {0, 1, 89, 900, 1234, count - 1}) {
+            path.reset(0, 0, 300, 300);
+            for (long i = 0; i < target; i++) {
+                path.next();
+            }
+            long walked = path.next();
+            path.seek(target);
+            assertEquals(walked, path.next(), "Seek to " + target);
+        }
+    }
+
+    @Test
+    @DisplayName("A mower on the lawn path should tick once per lawn cell of a huge property")
+    void testMowerOnLawnPath() {
+        ChunkedLawnState lawn = new ChunkedLawnState(100_000, 100_000);
+        lawn.addLawn(0, 0, 100, 100);
+        lawn.addLawn(90_000, 90_000, 90_050, 90_080);
+        LawnMower mower = new LawnMower(lawn.getRows(), lawn.getCols());
+        mower.setCoveragePath(new ChunkedLawnPath(lawn));
+        mower.addObserver(lawn);
+
+        long ticks = new SimulationEngine(mower, SimulationClock.fastForward()).run();
+
+        assertTrue(lawn.isFullyMowed(), "Every lawn cell should be mowed");
+        assertEquals(lawn.getLawnCellCount(), ticks, "One tick per lawn cell, not per bounding cell");
+        assertTrue(mower.getTransitDistance() > 0, "The gap between parcels is driven as transit");
+    }
+
+    @Test
+    @DisplayName("Observers on different threads should not lose bits of a shared tile row")
+    void testConcurrentMow() throws InterruptedException {
+        // Each thread owns every eighth column, so all threads share every word
+        int threads = 8;
+        ChunkedLawnState lawn = new ChunkedLawnState(64, 128);
+        lawn.addLawn(0, 0, 64, 128);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            workers[t] = new Thread(() -> {
+                for (int round = 0; round < 50; round++) {
+                    for (int row = 0; row < 64; row++) {
+                        for (int col = offset; col < 128; col += threads) {
+                            lawn.mow(row, col);
+                            if (round < 49 && (col & 1) == 0) {
+                                lawn.clear(row, col);
+                            }
+                        }
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertEquals(64 * 128, lawn.getMowedCount(), "Every cell's last write should be a mow");
+    }
+
+    @Test
+    @DisplayName("Negative bounds should be rejected")
+    void testInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedLawnState(-1, 10),
+            "Negative rows should be rejected");
+    }
+}
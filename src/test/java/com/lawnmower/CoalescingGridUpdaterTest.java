@@ -0,0 +1,139 @@
+package com.lawnmower;
+
+import java.awt.Color;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.SwingUtilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CoalescingGridUpdaterTest {
+
+    @Test
+    @DisplayName("Cells from many threads should all reach the grid")
+    void testConcurrentProducers() throws Exception {
+        LawnGrid grid = new LawnGrid(100, 100);
+        CoalescingGridUpdater updater = new CoalescingGridUpdater(grid, Color.GREEN);
+        int numThreads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        CountDownLatch latch = new CountDownLatch(numThreads);
+
+        for (int t = 0; t < numThreads; t++) {
+            int firstRow = t * 25;
+            executor.submit(() -> {
+                try {
+                    for (int row = firstRow; row < firstRow + 25; row++) {
+                        for (int col = 0; col < 100; col++) {
+                            updater.onCellMowed(row, col);
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS), "Producers should finish");
+        executor.shutdown();
+
+        awaitFrames(updater);
+        assertTrue(grid.getLawnState().isFullyMowed(), "Every produced cell should be applied");
+    }
+
+    @Test
+    @DisplayName("Delivery should be limited to the frame rate")
+    void testFrameRateCap() throws Exception {
+        LawnGrid grid = new LawnGrid(10, 10);
+        CoalescingGridUpdater updater = new CoalescingGridUpdater(grid, Color.GREEN, 10);
+
+        long start = System.nanoTime();
+        long cells = 0;
+        while (System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500)) {
+            updater.onCellMowed((int) (cells / 10 % 10), (int) (cells % 10));
+            cells++;
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        awaitFrames(updater);
+
+        assertTrue(cells > 1000, "Producer should not be throttled");
+        assertTrue(updater.getFrameCount() <= elapsedMillis / 100 + 2,
+            "No more than one frame per 100 ms, got " + updater.getFrameCount());
+    }
+
+    @Test
+    @DisplayName("Mediator updates should arrive through the coalescer")
+    void testMediatorUpdates() throws Exception {
+        LawnGrid grid = new LawnGrid(5, 5);
+        MowerMediator mediator = new MowerMediator(grid, new LawnMower(5, 5));
+
+        mediator.updateLawn(2, 3);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!grid.getLawnState().isMowed(2, 3) && System.nanoTime() < deadline) {
+            SwingUtilities.invokeAndWait(() -> { });
+        }
+
+        assertTrue(grid.getLawnState().isMowed(2, 3), "Cell should be applied on a later frame");
+        assertEquals(1, grid.getLawnState().getMowedCount(), "Only the updated cell should change");
+    }
+
+    @Test
+    @DisplayName("A frame over the buffer cap should refresh the grid from the overflow bitmap")
+    void testBufferCap() throws Exception {
+        LawnGrid grid = new LawnGrid(20, 20);
+        CoalescingGridUpdater updater = new CoalescingGridUpdater(grid, Color.GREEN, 60, 16);
+        CountDownLatch edtBlocked = new CountDownLatch(1);
+        CountDownLatch produced = new CountDownLatch(1);
+        SwingUtilities.invokeLater(() -> {
+            edtBlocked.countDown();
+            try {
+                produced.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(edtBlocked.await(5, TimeUnit.SECONDS), "EDT should be held");
+
+        // The EDT is stuck, so every cell lands in the same frame
+        for (int row = 0; row < 10; row++) {
+            for (int col = 0; col < 20; col++) {
+                updater.onCellMowed(row, col);
+            }
+        }
+        int[] rows = new int[200];
+        int[] cols = new int[200];
+        for (int i = 0; i < 200; i++) {
+            rows[i] = 10 + i / 20;
+            cols[i] = i % 20;
+        }
+        updater.onCellsMowed(rows, cols, 200);
+        produced.countDown();
+
+        awaitFrames(updater);
+        assertTrue(grid.getLawnState().isFullyMowed(), "Cells past the cap should still be applied");
+        assertEquals(1, updater.getFullRefreshCount(), "The frame over the cap should refresh the whole grid");
+        assertEquals(1, updater.getFrameCount(), "One flush should have been queued for the stalled frame");
+    }
+
+    @Test
+    @DisplayName("Updater should reject invalid settings")
+    void testInvalidSettings() {
+        LawnGrid grid = new LawnGrid(5, 5);
+        assertThrows(IllegalArgumentException.class, () -> new CoalescingGridUpdater(null, Color.GREEN));
+        assertThrows(IllegalArgumentException.class, () -> new CoalescingGridUpdater(grid, null));
+        assertThrows(IllegalArgumentException.class, () -> new CoalescingGridUpdater(grid, Color.GREEN, 0));
+        assertThrows(IllegalArgumentException.class, () -> new CoalescingGridUpdater(grid, Color.GREEN, 60, 0));
+    }
+
+    // Let any delayed frame fire, then drain the EDT
+    private static void awaitFrames(CoalescingGridUpdater updater) throws Exception {
+        Thread.sleep(200);
+        SwingUtilities.invokeAndWait(() -> { });
+        SwingUtilities.invokeAndWait(() -> { });
+    }
+}
@@ -0,0 +1,137 @@
+package com.lawnmower;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class CoveragePathTest {
+
+    @ParameterizedTest
+    @DisplayName("Every strategy should visit each cell once, moving one cell at a time")
+    @CsvSource({
+        "ROW_SERPENTINE, 7, 5",
+        "COLUMN_SERPENTINE, 7, 5",
+        "SPIRAL, 7, 5",
+        "SPIRAL, 5, 7",
+        "SPIRAL, 6, 6",
+        "SPIRAL, 1, 9",
+        "SPIRAL, 9, 1",
+        "SPIRAL, 2, 8",
+        "SHORTEST_DIMENSION_FIRST, 7, 5",
+        "SHORTEST_DIMENSION_FIRST, 5, 7"
+    })
+    void testFullContiguousCoverage(CoverageStrategy strategy, int rows, int cols) {
+        CoveragePath path = strategy.create();
+        path.reset(3, 4, 3 + rows, 4 + cols);
+        boolean[][] visited = new boolean[rows][cols];
+        long previous = -1;
+        int count = 0;
+
+        while (path.hasNext()) {
+            long cell = path.next();
+            int row = CoveragePath.row(cell) - 3;
+            int col = CoveragePath.col(cell) - 4;
+            assertFalse(visited[row][col], strategy + " visited " + row + "," + col + " twice");
+            visited[row][col] = true;
+            if (previous >= 0) {
+                int distance = Math.abs(CoveragePath.row(cell) - CoveragePath.row(previous))
+                        + Math.abs(CoveragePath.col(cell) - CoveragePath.col(previous));
+                assertEquals(1, distance, strategy + " should move to a neighbouring cell");
+            }
+            previous = cell;
+            count++;
+        }
+        assertEquals(rows * cols, count, "Every cell should be visited");
+        assertEquals(count, path.position(), "Position should count visited cells");
+    }
+
+    @ParameterizedTest
+    @DisplayName("Seeking should resume exactly where the path left off")
+    @EnumSource(CoverageStrategy.class)
+    void testSeek(CoverageStrategy strategy) {
+        CoveragePath reference = strategy.create();
+        reference.reset(0, 0, 9, 13);
+        long[] cells = new long[9 * 13];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = reference.next();
+        }
+
+        CoveragePath resumed = strategy.create();
+        for (int start : new int[] {0, 1, 12, 13, 40, 70, 116, 117}) {
+            resumed.reset(0, 0, 9, 13);
+            resumed.seek(start);
+            assertEquals(start, resumed.position(), "Seek should set the position");
+            for (int i = start; i < cells.length; i++) {
+                assertEquals(cells[i], resumed.next(), strategy + " differs at step " + i + " after seek to " + start);
+            }
+            assertFalse(resumed.hasNext(), "Path should end after the last cell");
+        }
+    }
+
+    @Test
+    @DisplayName("Row serpentine should reproduce the original mowing order")
+    void testRowSerpentineOrder() {
+        CoveragePath path = CoverageStrategy.ROW_SERPENTINE.create();
+        path.reset(0, 0, 2, 3);
+        long[] expected = {
+            CoveragePath.pack(0, 0), CoveragePath.pack(0, 1), CoveragePath.pack(0, 2),
+            CoveragePath.pack(1, 2), CoveragePath.pack(1, 1), CoveragePath.pack(1, 0)
+        };
+        for (long cell : expected) {
+            assertEquals(cell, path.next(), "Cells should follow the snake pattern");
+        }
+        assertFalse(path.hasNext(), "Path should end after the last cell");
+    }
+
+    @Test
+    @DisplayName("Empty regions should produce no cells")
+    void testEmptyRegion() {
+        for (CoverageStrategy strategy : CoverageStrategy.values()) {
+            CoveragePath path = strategy.create();
+            path.reset(0, 0, 0, 5);
+            assertFalse(path.hasNext(), strategy + " should be empty");
+        }
+    }
+
+    @Test
+    @DisplayName("Shortest-dimension-first should use the fewest turns")
+    void testShortestDimensionFirstTurns() {
+        LawnMower rows = mow(50, 10, CoverageStrategy.ROW_SERPENTINE);
+        LawnMower columns = mow(50, 10, CoverageStrategy.COLUMN_SERPENTINE);
+        LawnMower shortest = mow(50, 10, CoverageStrategy.SHORTEST_DIMENSION_FIRST);
+
+        assertEquals(500, rows.getTicks(), "Every strategy mows each cell once");
+        assertEquals(98, rows.getTurns(), "Two turns per lane change across 50 rows");
+        assertEquals(18, columns.getTurns(), "Two turns per lane change across 10 columns");
+        assertEquals(columns.getTurns(), shortest.getTurns(), "Lanes should follow the longer side");
+        assertEquals(0, shortest.getTransitDistance(), "A serpentine never travels without mowing");
+        assertTrue(mow(50, 10, CoverageStrategy.SPIRAL).getTurns() < rows.getTurns(),
+            "A spiral turns less than short lanes");
+    }
+
+    // Mow a rows x cols lawn headless with the given strategy
+    private static LawnMower mow(int rows, int cols, CoverageStrategy strategy) {
+        LawnMower mower = new LawnMower(rows, cols);
+        mower.setCoveragePath(strategy.create());
+        new SimulationEngine(mower, SimulationClock.fastForward()).run();
+        return mower;
+    }
+
+    @Test
+    @DisplayName("Mower should follow the chosen strategy")
+    void testMowerUsesStrategy() {
+        LawnMower mower = new LawnMower(4, 3);
+        mower.setCoveragePath(CoverageStrategy.COLUMN_SERPENTINE.create());
+        StringBuilder order = new StringBuilder();
+        mower.addObserver((row, col) -> order.append(row).append(col).append(' '));
+
+        new SimulationEngine(mower, SimulationClock.fastForward()).run();
+
+        assertEquals("00 10 20 30 31 21 11 01 02 12 22 32 ", order.toString(), "Mower should go column by column");
+    }
+}
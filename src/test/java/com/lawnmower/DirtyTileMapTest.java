@@ -0,0 +1,96 @@
+package com.lawnmower;
+
+import java.awt.Rectangle;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DirtyTileMapTest {
+
+    @Test
+    @DisplayName("Only the first mark after a drain should ask for a drain")
+    void testPendingFlag() {
+        DirtyTileMap map = new DirtyTileMap(20, 20, 4);
+        assertTrue(map.mark(0, 0), "First mark schedules a drain");
+        assertFalse(map.mark(15, 15), "Later marks ride along");
+        assertFalse(map.mark(0, 1), "Same tile again");
+        assertTrue(map.isPending(), "Drain is due");
+
+        assertEquals(2, map.drain().length, "Two separate tiles");
+        assertFalse(map.isPending(), "Drained");
+        assertEquals(0, map.drain().length, "Nothing left");
+        assertTrue(map.mark(5, 5), "First mark of the next frame");
+        assertFalse(map.mark(-1, 0), "Out of bounds is ignored");
+    }
+
+    @Test
+    @DisplayName("Neighbouring tiles of a row should merge and clip to the lawn")
+    void testRegions() {
+        DirtyTileMap map = new DirtyTileMap(10, 10, 4);
+        map.mark(0, 1);
+        map.mark(2, 5);
+        map.mark(9, 9); // Bottom-right tile is clipped to 2x2
+        map.mark(5, 0); // A new tile row starts a new run
+
+        assertArrayEquals(new Rectangle[] {
+            new Rectangle(0, 0, 8, 4), new Rectangle(0, 4, 4, 4), new Rectangle(8, 8, 2, 2)
+        }, map.drain(), "Dirty tiles as clipped rectangles");
+        assertThrows(IllegalArgumentException.class, () -> new DirtyTileMap(5, 5, 0));
+    }
+
+    @Test
+    @DisplayName("Concurrent producers should never lose a mark")
+    void testConcurrentMarks() throws InterruptedException {
+        int rows = 64;
+        int cols = 64;
+        DirtyTileMap map = new DirtyTileMap(rows, cols, 1);
+        boolean[][] seen = new boolean[rows][cols];
+        AtomicInteger scheduled = new AtomicInteger();
+        AtomicBoolean producing = new AtomicBoolean(true);
+        int threads = 8;
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            new Thread(() -> {
+                for (int cell = offset; cell < rows * cols; cell += threads) {
+                    if (map.mark(cell / cols, cell % cols)) {
+                        scheduled.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            }).start();
+        }
+        // Consumer drains while producers run, then once more at the end
+        Thread consumer = new Thread(() -> {
+            while (producing.get() || map.isPending()) {
+                for (Rectangle region : map.drain()) {
+                    for (int row = region.y; row < region.y + region.height; row++) {
+                        for (int col = region.x; col < region.x + region.width; col++) {
+                            seen[row][col] = true;
+                        }
+                    }
+                }
+            }
+        });
+        consumer.start();
+        done.await();
+        producing.set(false);
+        consumer.join();
+
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                assertTrue(seen[row][col], "Cell " + row + "," + col + " should be drained");
+            }
+        }
+        assertTrue(scheduled.get() >= 1, "At least one drain was requested");
+    }
+}
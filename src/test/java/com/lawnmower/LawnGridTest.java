@@ -2,12 +2,24 @@ package com.lawnmower;
 
 import java.awt.Color;
 import java.awt.Dimension;
+import java.awt.Graphics;
 import java.awt.GridLayout;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.swing.SwingUtilities;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -131,4 +143,153 @@ public class LawnGridTest {
         assertEquals(500, size.width, "Grid width should remain 500");
         assertEquals(500, size.height, "Grid height should remain 500");
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("Cell updates should be recorded in the lawn model")
+    void testUpdatesLawnState() {
+        lawnGrid.updateCell(1, 2, Color.GREEN);
+        assertTrue(lawnGrid.getLawnState().isMowed(1, 2), "Mowed color should mark the cell");
+
+        lawnGrid.updateCell(1, 2, Color.RED);
+        assertFalse(lawnGrid.getLawnState().isMowed(1, 2), "Unmowed color should clear the cell");
+    }
+
+    @Test
+    @DisplayName("Grid should render a shared lawn model")
+    void testSharedLawnState() {
+        LawnState state = new LawnState(4, 6);
+        LawnGrid grid = new LawnGrid(state);
+        GridLayout layout = (GridLayout) grid.getLayout();
+
+        assertSame(state, grid.getLawnState(), "Grid should render the given model");
+        assertEquals(4, layout.getRows(), "Grid should take its rows from the model");
+        assertEquals(6, layout.getColumns(), "Grid should take its columns from the model");
+        assertThrows(IllegalArgumentException.class, () -> new LawnGrid(new LawnState(0, 0)),
+            "Grid should reject an empty model");
+    }
+
+    @Test
+    @DisplayName("Painting should be limited to the clip rectangle")
+    void testPaintRespectsClip() {
+        lawnGrid.setSize(100, 100); // 20x20 pixel cells
+        lawnGrid.updateCell(0, 0, Color.GREEN);
+        lawnGrid.updateCell(4, 4, Color.GREEN);
+
+        BufferedImage image = new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB);
+        Graphics g = image.getGraphics();
+        g.setClip(80, 80, 20, 20); // Only the bottom-right cell
+        lawnGrid.paint(g);
+        g.dispose();
+
+        assertEquals(Color.GREEN.getRGB(), image.getRGB(90, 90), "Clipped cell should be painted");
+        assertEquals(0, image.getRGB(10, 10) & 0xFFFFFF, "Cells outside the clip should not be painted");
+    }
+
+    @Test
+    @DisplayName("Flushing dirty regions should consume them")
+    void testFlushDirtyRegions() {
+        lawnGrid.setSize(100, 100);
+        lawnGrid.updateCell(1, 1, Color.GREEN);
+        lawnGrid.updateCell(1, 2, Color.GREEN);
+
+        assertDoesNotThrow(() -> lawnGrid.flushDirtyRegions(), "Flush should repaint pending regions");
+        assertDoesNotThrow(() -> lawnGrid.flushDirtyRegions(), "A second flush should have nothing to do");
+    }
+
+    @Test
+    @DisplayName("Dirty cells of a lawn larger than the panel should repaint where they are drawn")
+    void testFlushScalesLargeLawns() throws Exception {
+        List<Rectangle> repainted = Collections.synchronizedList(new ArrayList<>());
+        LawnGrid grid = new LawnGrid(1000, 1000) {
+            @Override
+            public void repaint(long tm, int x, int y, int width, int height) {
+                repainted.add(new Rectangle(x, y, width, height));
+            }
+        };
+        grid.setSize(500, 500); // Half a pixel per cell
+        grid.setRenderMode(LawnGrid.RenderMode.BUFFERED);
+        repainted.clear(); // The full repaint of the mode switch
+        grid.updateCell(900, 900, Color.GREEN);
+        grid.updateCell(500, 10, Color.GREEN);
+        SwingUtilities.invokeAndWait(grid::flushDirtyRegions); // After any flush already queued
+
+        assertTrue(repainted.stream().anyMatch(r -> r.contains(450, 450)), "Cell (900,900) shows at (450,450)");
+        assertTrue(repainted.stream().anyMatch(r -> r.contains(5, 250)), "Cell (500,10) shows at (5,250)");
+        for (Rectangle region : repainted) {
+            assertTrue(region.width <= 5 && region.height <= 5, "Only the dirty tile is repainted: " + region);
+        }
+
+        // Pixel-sized and larger cells keep whole cells plus their grid line
+        lawnGrid.setSize(100, 100);
+        assertEquals(new Rectangle(20, 40, 41, 21), lawnGrid.toPixels(new Rectangle(1, 2, 2, 1)),
+                "20 pixel cells");
+    }
+
+    @Test
+    @DisplayName("Buffered rendering should match direct rendering")
+    void testBufferedMatchesDirect() {
+        lawnGrid.setSize(100, 100);
+        lawnGrid.updateCell(0, 0, Color.GREEN);
+        lawnGrid.updateCell(2, 3, Color.GREEN);
+        BufferedImage direct = render(lawnGrid);
+
+        lawnGrid.setRenderMode(LawnGrid.RenderMode.BUFFERED);
+        BufferedImage buffered = render(lawnGrid);
+
+        for (int y = 0; y < 100; y++) {
+            for (int x = 0; x < 100; x++) {
+                assertEquals(direct.getRGB(x, y), buffered.getRGB(x, y), "Pixel mismatch at " + x + "," + y);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Buffered mode should keep exact cell colors")
+    void testBufferedKeepsColors() {
+        lawnGrid.setRenderMode(LawnGrid.RenderMode.BUFFERED);
+        lawnGrid.updateCell(1, 1, Color.BLUE);
+
+        assertEquals(Color.BLUE.getRGB(), lawnGrid.getRaster().getCell(1, 1), "Raster should hold the color");
+        assertTrue(lawnGrid.getLawnState().isMowed(1, 1), "Model should record the cell as mowed");
+
+        lawnGrid.setRenderMode(LawnGrid.RenderMode.DIRECT);
+        assertNull(lawnGrid.getRaster(), "Direct mode should release the raster");
+    }
+
+    private static BufferedImage render(LawnGrid grid) {
+        BufferedImage image = new BufferedImage(grid.getWidth(), grid.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics g = image.getGraphics();
+        grid.paint(g);
+        g.dispose();
+        return image;
+    }
+
+    @Test
+    @DisplayName("Concurrent updates from many threads should all reach the lawn model")
+    void testConcurrentUpdates() throws InterruptedException {
+        LawnGrid grid = new LawnGrid(40, 40);
+        grid.setRenderMode(LawnGrid.RenderMode.BUFFERED);
+        int threads = 10;
+        Thread[] producers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            producers[t] = new Thread(() -> {
+                for (int cell = offset; cell < 1600; cell += threads) {
+                    grid.updateCell(cell / 40, cell % 40, LawnGrid.MOWED_COLOR);
+                }
+            });
+            producers[t].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        assertTrue(grid.getLawnState().isFullyMowed(), "No update should be lost");
+        for (int row = 0; row < 40; row++) {
+            for (int col = 0; col < 40; col++) {
+                assertEquals(LawnGrid.MOWED_COLOR.getRGB(), grid.getRaster().getCell(row, col),
+                        "Raster cell " + row + "," + col);
+            }
+        }
+        assertDoesNotThrow(grid::flushDirtyRegions, "Flushing the queued tiles should work");
+    }
+}
@@ -0,0 +1,52 @@
+package com.lawnmower;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LawnRasterTest {
+    private LawnRaster raster;
+
+    @BeforeEach
+    void setUp() {
+        raster = new LawnRaster(3, 4, Color.RED);
+    }
+
+    @Test
+    @DisplayName("Raster should hold one pixel per cell")
+    void testImageSize() {
+        BufferedImage image = raster.getLawnImage();
+        assertEquals(4, image.getWidth(), "One pixel per column");
+        assertEquals(3, image.getHeight(), "One pixel per row");
+        assertEquals(Color.RED.getRGB(), image.getRGB(3, 2), "Raster should start with the background");
+    }
+
+    @Test
+    @DisplayName("Cell writes should land in the image")
+    void testCellWrites() {
+        raster.setCell(1, 2, Color.GREEN);
+
+        assertEquals(Color.GREEN.getRGB(), raster.getLawnImage().getRGB(2, 1), "Image should show the write");
+        assertEquals(Color.GREEN.getRGB(), raster.getCell(1, 2), "Raster should report the write");
+        assertEquals(Color.RED.getRGB(), raster.getCell(1, 1), "Neighbours should be untouched");
+    }
+
+    @Test
+    @DisplayName("Grid lines should be cached per cell size")
+    void testGridLineCache() {
+        BufferedImage lines = raster.getGridLines(10, 10);
+        assertSame(lines, raster.getGridLines(10, 10), "Same cell size should reuse the overlay");
+        assertEquals(41, lines.getWidth(), "Overlay should cover every column border");
+        assertEquals(31, lines.getHeight(), "Overlay should cover every row border");
+        assertEquals(Color.BLACK.getRGB(), lines.getRGB(10, 5), "Column border should be black");
+        assertEquals(0, lines.getRGB(5, 5) >>> 24, "Cell interior should be transparent");
+
+        assertNotSame(lines, raster.getGridLines(12, 12), "New cell size should rebuild the overlay");
+    }
+}
@@ -0,0 +1,254 @@
+package com.lawnmower;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class LawnStateTest {
+    private LawnState lawnState;
+    private static final int ROWS = 7;
+    private static final int COLS = 100; // Rows straddle word boundaries
+
+    @BeforeEach
+    void setUp() {
+        lawnState = new LawnState(ROWS, COLS);
+    }
+
+    @Test
+    @DisplayName("New lawn should be completely unmowed")
+    void testInitialState() {
+        assertEquals(0, lawnState.getMowedCount(), "No cell should be mowed");
+        assertEquals(0.0, lawnState.getPercentMowed(), "Nothing should be mowed");
+        assertFalse(lawnState.isMowed(0, 0), "Cell should start unmowed");
+    }
+
+    @Test
+    @DisplayName("Single cells should be set, tested and cleared")
+    void testSingleCells() {
+        lawnState.mow(3, 63);
+        lawnState.mow(3, 64);
+        assertTrue(lawnState.isMowed(3, 63), "Cell should be mowed");
+        assertTrue(lawnState.isMowed(3, 64), "Cell should be mowed");
+        assertFalse(lawnState.isMowed(3, 65), "Neighbour should be untouched");
+        assertEquals(2, lawnState.getMowedCount(), "Two cells should be mowed");
+
+        lawnState.clear(3, 63);
+        assertFalse(lawnState.isMowed(3, 63), "Cell should be unmowed again");
+        assertEquals(1, lawnState.getMowedCount(), "One cell should remain mowed");
+    }
+
+    @ParameterizedTest
+    @DisplayName("Out-of-bounds cells should be ignored")
+    @CsvSource({
+        "-1, 0",
+        "0, -1",
+        "7, 0",
+        "0, 100"
+    })
+    void testOutOfBounds(int row, int col) {
+        lawnState.mow(row, col);
+        assertFalse(lawnState.isMowed(row, col), "Out-of-bounds cell should never be mowed");
+        assertEquals(0, lawnState.getMowedCount(), "No in-bounds cell should change");
+    }
+
+    @ParameterizedTest
+    @DisplayName("Range operations should match cell-by-cell updates")
+    @CsvSource({
+        "0, 0, 100",
+        "1, 10, 20",
+        "2, 60, 70",
+        "4, 0, 64",
+        "5, 99, 100",
+        "6, 30, 30"
+    })
+    void testRangeOperations(int row, int fromCol, int toCol) {
+        lawnState.mowRange(row, fromCol, toCol);
+
+        for (int r = 0; r < ROWS; r++) {
+            for (int c = 0; c < COLS; c++) {
+                boolean expected = r == row && c >= fromCol && c < toCol;
+                assertEquals(expected, lawnState.isMowed(r, c), "Unexpected state at " + r + "," + c);
+            }
+        }
+        assertEquals(toCol - fromCol, lawnState.countRow(row), "Row count should match range");
+        assertEquals(toCol - fromCol, lawnState.getMowedCount(), "Total count should match range");
+    }
+
+    @Test
+    @DisplayName("Whole rows should be mowed, counted and cleared")
+    void testRowOperations() {
+        lawnState.mowRow(2);
+        assertTrue(lawnState.isRowMowed(2), "Row should be fully mowed");
+        assertFalse(lawnState.isRowMowed(1), "Other rows should be untouched");
+        assertEquals(COLS, lawnState.countRow(2), "Row count should equal width");
+        assertEquals(10, lawnState.countRange(2, 5, 15), "Range count should be clipped to the range");
+
+        lawnState.clearRow(2);
+        assertEquals(0, lawnState.getMowedCount(), "Row should be cleared");
+    }
+
+    @Test
+    @DisplayName("Percent mowed should follow the popcount")
+    void testPercentMowed() {
+        for (int row = 0; row < ROWS; row++) {
+            lawnState.mowRow(row);
+        }
+        assertEquals(100.0, lawnState.getPercentMowed(), 1e-9, "Whole lawn should be mowed");
+        assertTrue(lawnState.isFullyMowed(), "Lawn should report full coverage");
+
+        lawnState.clearAll();
+        lawnState.mowRange(0, 0, 70);
+        assertEquals(10.0, lawnState.getPercentMowed(), 1e-9, "70 of 700 cells should be mowed");
+    }
+
+    @Test
+    @DisplayName("Large lawns should use one bit per cell")
+    void testCompactStorage() {
+        LawnState large = new LawnState(10_000, 10_000);
+        assertEquals(1_562_500, large.getWordCount(), "10k x 10k lawn should need 12.5 MB");
+
+        large.mow(9_999, 9_999);
+        assertTrue(large.isMowed(9_999, 9_999), "Last cell should be addressable");
+        assertThrows(IllegalArgumentException.class, () -> new LawnState(Integer.MAX_VALUE, Integer.MAX_VALUE),
+            "Lawns beyond the array limit should be rejected");
+    }
+
+    @Test
+    @DisplayName("Lawn state should record a headless simulation")
+    void testRecordsSimulation() {
+        LawnMower mower = new LawnMower(ROWS, COLS);
+        mower.addObserver(lawnState);
+
+        new SimulationEngine(mower, SimulationClock.fastForward()).run();
+
+        assertTrue(lawnState.isFullyMowed(), "Every cell should be recorded as mowed");
+    }
+
+    @Test
+    @DisplayName("Negative dimensions should produce an empty lawn")
+    void testEmptyLawn() {
+        LawnState empty = new LawnState(-1, 5);
+        assertEquals(0, empty.getCellCount(), "Lawn should be empty");
+        assertEquals(100.0, empty.getPercentMowed(), "An empty lawn is trivially mowed");
+    }
+    @Test
+    @DisplayName("Obstacle cells should never be mowed")
+    void testObstaclesAreNotMowed() {
+        lawnState.mowRow(2);
+        lawnState.addObstacle(2, 60, 4, 70);
+
+        assertTrue(lawnState.isObstacle(3, 65), "Cell should be an obstacle");
+        assertFalse(lawnState.isMowed(2, 65), "Placing an obstacle should clear the cell");
+        assertEquals(20, lawnState.getObstacleCount(), "Two rows of ten obstacle cells");
+        assertEquals(ROWS * COLS - 20, lawnState.getMowableCount(), "Obstacles should not count as mowable");
+
+        lawnState.mow(3, 65);
+        assertFalse(lawnState.tryMow(3, 66), "Obstacles should not be claimable");
+        lawnState.mowRange(3, 0, COLS);
+        assertEquals(COLS - 10, lawnState.countRow(3), "Range mowing should skip obstacles");
+        assertTrue(lawnState.isRowMowed(3), "A row is mowed once every mowable cell is");
+
+        lawnState.clearObstacle(3, 65);
+        assertFalse(lawnState.isObstacle(3, 65), "Cleared obstacle should be mowable again");
+        assertFalse(lawnState.isRowMowed(3), "The freed cell still needs mowing");
+    }
+
+    @Test
+    @DisplayName("Free and obstacle scans should skip whole words")
+    void testNextFreeAndObstacle() {
+        lawnState.addObstacle(1, 10, 2, 90);
+        assertEquals(0, lawnState.nextFree(1, 0), "Start of the row is free");
+        assertEquals(10, lawnState.nextObstacle(1, 0), "Obstacle starts at column 10");
+        assertEquals(90, lawnState.nextFree(1, 10), "Free span resumes after the obstacle");
+        assertEquals(COLS, lawnState.nextObstacle(1, 90), "No obstacle after column 90");
+        assertEquals(COLS, lawnState.nextObstacle(0, 0), "Other rows should be open");
+    }
+
+    @Test
+    @DisplayName("Percent mowed should be relative to mowable cells")
+    void testPercentWithObstacles() {
+        LawnState small = new LawnState(2, 2);
+        small.setObstacle(0, 0);
+        small.setObstacle(1, 1);
+        small.mow(0, 1);
+        assertEquals(50.0, small.getPercentMowed(), "One of two mowable cells is mowed");
+        small.mow(1, 0);
+        assertTrue(small.isFullyMowed(), "Obstacles should not block completion");
+    }
+
+    @Test
+    @DisplayName("Concurrent mow and clear on neighbouring cells should not lose updates")
+    void testConcurrentNeighbourUpdates() throws InterruptedException {
+        // Each thread owns every eighth column, so all threads share every word
+        int threads = 8;
+        LawnState lawn = new LawnState(64, 64);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            workers[t] = new Thread(() -> {
+                for (int round = 0; round < 50; round++) {
+                    for (int row = 0; row < 64; row++) {
+                        for (int col = offset; col < 64; col += threads) {
+                            lawn.mow(row, col);
+                            if (round < 49 && (col & 1) == 0) {
+                                lawn.clear(row, col);
+                            }
+                        }
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertEquals(64 * 64, lawn.getMowedCount(), "Every cell's last write should be a mow");
+    }
+
+    @Test
+    @DisplayName("Claiming a range should count only the cells it changed")
+    void testClaimRange() {
+        lawnState.mow(2, 10);
+        lawnState.setObstacle(2, 70);
+
+        assertEquals(98, lawnState.claimRange(2, 0, COLS), "Mowed and obstacle cells are not claimed");
+        assertEquals(0, lawnState.claimRange(2, 0, COLS), "A claimed range cannot be claimed again");
+        assertFalse(lawnState.isMowed(2, 70), "Obstacles should stay unmowed");
+        assertEquals(3, lawnState.claimRange(3, -5, 3), "The range should be clipped to the row");
+        assertEquals(0, lawnState.claimRange(ROWS, 0, COLS), "Rows off the lawn claim nothing");
+    }
+
+    @Test
+    @DisplayName("Threads claiming the same ranges should count every cell once")
+    void testConcurrentClaimRange() throws InterruptedException {
+        int threads = 4;
+        LawnState lawn = new LawnState(300, 300);
+        long[] claimed = new long[threads];
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int index = t;
+            workers[t] = new Thread(() -> {
+                // Ranges of every length so words are shared at both ends
+                for (int row = 0; row < 300; row++) {
+                    for (int col = 0; col < 300; col += 7 + index) {
+                        claimed[index] += lawn.claimRange(row, col, col + 7 + index);
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        long total = 0;
+        for (int t = 0; t < threads; t++) {
+            workers[t].join();
+            total += claimed[t];
+        }
+        assertEquals(300 * 300, total, "Claims should add up to the lawn area");
+        assertTrue(lawn.isFullyMowed(), "Every cell should be mowed");
+    }
+}
@@ -0,0 +1,142 @@
+package com.lawnmower;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedLawnStateTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Mowed cells should persist across reopening the file")
+    void testPersistence() throws IOException {
+        Path file = dir.resolve("lawn.bin");
+        try (MappedLawnState lawn = MappedLawnState.open(file, 9, 100, 1)) {
+            lawn.mow(3, 63);
+            lawn.mow(3, 64);
+            assertTrue(lawn.tryMow(8, 99), "First claim should win");
+            assertFalse(lawn.tryMow(8, 99), "Second claim should lose");
+        }
+        try (MappedLawnState lawn = MappedLawnState.open(file, 9, 100, 1)) {
+            assertTrue(lawn.isMowed(3, 63), "Cell should survive reopening");
+            assertTrue(lawn.isMowed(3, 64), "Cell should survive reopening");
+            assertEquals(3, lawn.getMowedCount(), "Only the mowed cells should be set");
+            lawn.clear(3, 63);
+            assertFalse(lawn.isMowed(3, 63), "Cell should be cleared");
+        }
+    }
+
+    @Test
+    @DisplayName("A restarted mower should resume exactly where it stopped")
+    void testResume() throws IOException {
+        Path file = dir.resolve("job.bin");
+        try (MappedLawnState lawn = MappedLawnState.open(file, 10, 10, 1)) {
+            LawnMower mower = new LawnMower(10, 10);
+            lawn.attach(0, mower);
+            new SimulationEngine(mower, SimulationClock.fastForward()).run(37);
+        }
+
+        try (MappedLawnState lawn = MappedLawnState.open(file, 10, 10, 1)) {
+            assertEquals(37, lawn.getMowedCount(), "Progress before the stop should be on disk");
+            assertTrue(lawn.hasCheckpoint(0), "Mower should have a checkpoint");
+            assertEquals(37, lawn.getCheckpointPosition(0), "Cursor should be after the last mowed cell");
+            assertEquals(3, lawn.getCheckpointRow(0), "Mower stopped in row 3");
+            assertEquals(3, lawn.getCheckpointCol(0), "Row 3 runs right to left, ending the 37th cell at column 3");
+
+            LawnMower mower = new LawnMower(10, 10);
+            lawn.attach(0, mower);
+            long ticks = new SimulationEngine(mower, SimulationClock.fastForward()).run();
+
+            assertEquals(63, ticks, "Only the remaining cells should be mowed");
+            assertEquals(100, mower.getCellsMowed(), "Cell count should carry over");
+            assertTrue(lawn.isFullyMowed(), "Lawn should be finished");
+            assertEquals(0, mower.getTransitDistance(), "Resumed mower should continue from where it stood");
+        }
+    }
+
+    @Test
+    @DisplayName("A torn or corrupt checkpoint record should fall back to the previous one")
+    void testTornCheckpoint() throws IOException {
+        Path file = dir.resolve("job.bin");
+        try (MappedLawnState lawn = MappedLawnState.open(file, 10, 10, 1)) {
+            LawnMower mower = new LawnMower(10, 10);
+            lawn.attach(0, mower);
+            new SimulationEngine(mower, SimulationClock.fastForward()).run(37);
+        }
+        // 37 checkpoints: the 37th is in the first record, the 36th in the second.
+        // A crash while writing the 38th leaves half its fields in the second.
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putInt(9).putInt(9).flip(), 96);
+        }
+        try (MappedLawnState lawn = MappedLawnState.open(file, 10, 10, 1)) {
+            assertEquals(37, lawn.getCheckpointPosition(0), "Half-written record should be ignored");
+            assertEquals(3, lawn.getCheckpointCol(0), "Fields should come from one record");
+        }
+
+        // A newest record with fields out of range is not trusted either
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(99).flip(), 64);
+        }
+        try (MappedLawnState lawn = MappedLawnState.open(file, 10, 10, 1)) {
+            assertEquals(36, lawn.getCheckpointPosition(0), "Corrupt record should fall back to the older one");
+            assertEquals(9, lawn.getCheckpointCol(0), "Older record's column as left by the crash");
+        }
+    }
+
+    @Test
+    @DisplayName("Attaching should restore recorded cells onto the mower's shared lawn")
+    void testRestoreSharedLawn() throws IOException {
+        Path file = dir.resolve("shared.bin");
+        try (MappedLawnState lawn = MappedLawnState.open(file, 10, 10, 2)) {
+            LawnMower mower = new LawnMower(new LawnState(10, 10));
+            lawn.attach(0, mower);
+            new SimulationEngine(mower, SimulationClock.fastForward()).run(15);
+            lawn.mow(9, 9); // Reported by the other mower
+        }
+
+        try (MappedLawnState lawn = MappedLawnState.open(file, 10, 10, 2)) {
+            LawnState shared = new LawnState(10, 10);
+            lawn.attach(0, new LawnMower(shared));
+
+            assertEquals(16, shared.getMowedCount(), "Every recorded cell should be claimed again");
+            assertTrue(shared.isMowed(9, 9), "Cells of other mowers should be restored too");
+            assertThrows(IllegalArgumentException.class, () -> lawn.restoreInto(new LawnState(5, 5)),
+                    "Lawn size should be checked");
+        }
+    }
+
+    @Test
+    @DisplayName("Files of a different shape should be rejected")
+    void testShapeMismatch() throws IOException {
+        Path file = dir.resolve("lawn.bin");
+        MappedLawnState.open(file, 4, 4, 1).close();
+
+        assertThrows(IOException.class, () -> MappedLawnState.open(file, 5, 4, 1), "Row count should be checked");
+        Path other = dir.resolve("other.bin");
+        Files.write(other, new byte[128]);
+        assertThrows(IOException.class, () -> MappedLawnState.open(other, 4, 4, 1), "Foreign files should be rejected");
+    }
+
+    @Test
+    @DisplayName("Checkpoint slots should be bounds checked")
+    void testSlotBounds() throws IOException {
+        try (MappedLawnState lawn = MappedLawnState.open(dir.resolve("lawn.bin"), 4, 4, 2)) {
+            assertFalse(lawn.hasCheckpoint(1), "New slots should be empty");
+            assertThrows(IndexOutOfBoundsException.class, () -> lawn.hasCheckpoint(2), "Slot 2 does not exist");
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.lawnmower;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MowerEventLogTest {
+    @TempDir
+    Path dir;
+
+    // Records every callback as text, in order
+    private static class Recorder implements MowerObserver {
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onCellMowed(int row, int col) {
+            events.add(row + "," + col);
+        }
+
+        @Override
+        public void onStatusChanged(MowerStatus status) {
+            events.add(status.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Replay should reproduce the mower's callbacks exactly")
+    void testDeterministicReplay() throws IOException {
+        Path file = dir.resolve("run.log");
+        Recorder live = new Recorder();
+        LawnMower mower = new LawnMower(13, 17);
+        mower.setBatchSize(5);
+        mower.addObserver(live);
+        try (MowerEventLog log = new MowerEventLog(file, 17)) {
+            mower.addObserver(log);
+            new SimulationEngine(mower, SimulationClock.fastForward()).run();
+            assertEquals(13 * 17 + 2, log.getEventCount(), "Every cell plus start and finish");
+        }
+
+        Recorder replayed = new Recorder();
+        long events = new EventLogReplayer(file).replay(replayed);
+
+        assertEquals(live.events, replayed.events, "Replay should match the live run");
+        assertEquals(13 * 17 + 2, events, "Replay should count every event");
+        assertEquals("MOWING", replayed.events.get(0), "Run starts mowing");
+        assertEquals("FINISHED", replayed.events.get(replayed.events.size() - 1), "Run ends finished");
+    }
+
+    @Test
+    @DisplayName("Cell indices should be delta encoded compactly")
+    void testCompactEncoding() throws IOException {
+        Path file = dir.resolve("big.log");
+        LawnMower mower = new LawnMower(500, 500);
+        mower.setBatchSize(1000);
+        try (MowerEventLog log = new MowerEventLog(file, 500)) {
+            mower.addObserver(log);
+            new SimulationEngine(mower, SimulationClock.fastForward()).run();
+        }
+        // Neighbouring cells differ by +-1 or the width, one or two bytes each
+        assertTrue(Files.size(file) < 500 * 500 * 2, "Log should use under two bytes per cell: " + Files.size(file));
+
+        LawnState replayed = new LawnState(500, 500);
+        new EventLogReplayer(file).replay(replayed);
+        assertTrue(replayed.isFullyMowed(), "Replay should mow the whole lawn");
+    }
+
+    @Test
+    @DisplayName("Paced replay should follow the recorded timestamps")
+    void testPacedReplay() throws IOException, InterruptedException {
+        Path file = dir.resolve("paced.log");
+        long[] now = {0};
+        try (MowerEventLog log = new MowerEventLog(file, 10, () -> now[0])) {
+            log.onCellMowed(0, 0);
+            now[0] += 50_000_000; // 50 ms later
+            log.onCellMowed(0, 1);
+        }
+
+        long start = System.nanoTime();
+        long events = new EventLogReplayer(file).replay(new Recorder(), 1.0);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(2, events, "Both cells should be replayed");
+        assertTrue(elapsedMillis >= 45, "Replay should wait for the recorded gap, took " + elapsedMillis + " ms");
+        assertThrows(IllegalArgumentException.class, () -> new EventLogReplayer(file).replay(new Recorder(), 0),
+            "Speedup must be positive");
+    }
+
+    @Test
+    @DisplayName("Files that are not event logs should be rejected")
+    void testRejectsForeignFile() throws IOException {
+        Path file = dir.resolve("other.bin");
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IOException.class, () -> new EventLogReplayer(file).replay(new Recorder()),
+            "Foreign files should be rejected");
+    }
+}
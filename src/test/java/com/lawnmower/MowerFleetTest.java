@@ -0,0 +1,144 @@
+package com.lawnmower;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MowerFleetTest {
+
+    @ParameterizedTest
+    @DisplayName("Fleet should cover the lawn with completion time shrinking by fleet size")
+    @ValueSource(ints = {1, 2, 4, 8})
+    void testFleetCoverage(int fleetSize) throws InterruptedException {
+        LawnState lawn = new LawnState(80, 50);
+        MowerFleet fleet = new MowerFleet(lawn, fleetSize);
+        AtomicInteger notifications = new AtomicInteger();
+        fleet.addObserver((row, col) -> notifications.incrementAndGet());
+
+        long completionTicks = fleet.run();
+
+        assertTrue(lawn.isFullyMowed(), "Every cell should be mowed");
+        assertEquals(4000, notifications.get(), "Every cell should be reported exactly once");
+        assertEquals(4000 / fleetSize, completionTicks, "Strips should split the work evenly");
+        assertEquals(0, fleet.getDuplicateClaims(), "Disjoint strips should never collide");
+        for (LawnMower mower : fleet.getMowers()) {
+            assertEquals(4000 / fleetSize, mower.getCellsMowed(), "Each mower should mow its own strip");
+        }
+    }
+
+    @Test
+    @DisplayName("Mowers racing over the same cells should claim each one once")
+    void testConcurrentClaims() throws Exception {
+        LawnState lawn = new LawnState(100, 100);
+        ConcurrentHashMap<Integer, Boolean> reported = new ConcurrentHashMap<>();
+        AtomicInteger doubleReports = new AtomicInteger();
+        int numMowers = 4;
+        LawnMower[] mowers = new LawnMower[numMowers];
+        ExecutorService executor = Executors.newFixedThreadPool(numMowers);
+        Future<?>[] runs = new Future<?>[numMowers];
+        for (int i = 0; i < numMowers; i++) {
+            mowers[i] = new LawnMower(lawn); // Every mower covers the whole lawn
+            mowers[i].addObserver((row, col) -> {
+                if (reported.put(row * 100 + col, Boolean.TRUE) != null) {
+                    doubleReports.incrementAndGet();
+                }
+            });
+            SimulationEngine engine = new SimulationEngine(mowers[i], SimulationClock.fastForward());
+            runs[i] = executor.submit(() -> engine.run());
+        }
+        for (Future<?> run : runs) {
+            run.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        long mowed = 0;
+        long duplicates = 0;
+        for (LawnMower mower : mowers) {
+            mowed += mower.getCellsMowed();
+            duplicates += mower.getDuplicateClaims();
+        }
+        assertEquals(0, doubleReports.get(), "No cell should be reported twice");
+        assertEquals(10_000, mowed, "Claims should add up to the lawn area");
+        assertEquals(10_000L * (numMowers - 1), duplicates, "Every other visit is a duplicate claim");
+        assertTrue(lawn.isFullyMowed(), "Every cell should be mowed");
+    }
+
+    @Test
+    @DisplayName("Fleets larger than the lawn should leave spare mowers idle")
+    void testMoreMowersThanRows() throws InterruptedException {
+        LawnState lawn = new LawnState(3, 4);
+        MowerFleet fleet = new MowerFleet(lawn, 6);
+
+        assertEquals(4, fleet.run(), "Each row should take one strip's worth of ticks");
+        assertTrue(lawn.isFullyMowed(), "Every cell should be mowed");
+        assertEquals(0, fleet.getDuplicateClaims(), "Idle mowers should not claim anything");
+    }
+
+    @Test
+    @DisplayName("Fleet should reject invalid arguments")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new MowerFleet(null, 2));
+        assertThrows(IllegalArgumentException.class, () -> new MowerFleet(new LawnState(5, 5), 0));
+    }
+
+    @Test
+    @DisplayName("Fleets without observers should cover the lawn when tiles share words")
+    void testFleetWithoutObservers() throws InterruptedException {
+        // One-column tiles: every mower's cells share words with its neighbours
+        for (int run = 0; run < 20; run++) {
+            LawnState lawn = new LawnState(200, 200);
+            MowerFleet fleet = new MowerFleet(lawn, 8);
+
+            fleet.run(WorkPlanner.tiles(200, 200, 200, 1, 8), SimulationClock::fastForward);
+
+            long mowed = 0;
+            for (LawnMower mower : fleet.getMowers()) {
+                mowed += mower.getCellsMowed();
+            }
+            assertTrue(lawn.isFullyMowed(), "Every cell should be mowed");
+            assertEquals(40_000, mowed, "Claims should add up to the lawn area");
+        }
+    }
+
+    @Test
+    @DisplayName("Mowers without observers racing over the same cells should claim each one once")
+    void testConcurrentClaimsWithoutObservers() throws Exception {
+        int numMowers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(numMowers);
+        try {
+            for (int run = 0; run < 20; run++) {
+                LawnState lawn = new LawnState(300, 300);
+                LawnMower[] mowers = new LawnMower[numMowers];
+                Future<?>[] runs = new Future<?>[numMowers];
+                for (int i = 0; i < numMowers; i++) {
+                    mowers[i] = new LawnMower(lawn); // Every mower covers the whole lawn
+                    SimulationEngine engine = new SimulationEngine(mowers[i], SimulationClock.fastForward());
+                    runs[i] = executor.submit(() -> engine.run());
+                }
+                for (Future<?> future : runs) {
+                    future.get(10, TimeUnit.SECONDS);
+                }
+
+                long mowed = 0;
+                for (LawnMower mower : mowers) {
+                    mowed += mower.getCellsMowed();
+                }
+                assertEquals(90_000, mowed, "Claims should add up to the lawn area");
+                assertTrue(lawn.isFullyMowed(), "Every cell should be mowed");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.lawnmower;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MowerLogTest {
+    private final List<String> entries = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        MowerLog.flush();
+        MowerLog.setSink((timeNanos, level, message) -> entries.add(level + " " + message));
+    }
+
+    @AfterEach
+    void tearDown() {
+        MowerLog.flush();
+        MowerLog.setSink(null);
+        MowerLog.setLevel(LogLevel.INFO);
+    }
+
+    @Test
+    @DisplayName("Entries should reach the sink in order on the background thread")
+    void testAsyncDelivery() {
+        String caller = Thread.currentThread().getName();
+        List<String> threads = new CopyOnWriteArrayList<>();
+        MowerLog.setSink((timeNanos, level, message) -> {
+            threads.add(Thread.currentThread().getName());
+            entries.add(message);
+        });
+
+        for (int i = 0; i < 100; i++) {
+            MowerLog.info("entry " + i);
+        }
+        assertTrue(MowerLog.flush(), "Flush should complete");
+
+        assertEquals(100, entries.size(), "Every entry should be delivered");
+        assertEquals("entry 99", entries.get(99), "Entries should keep their order");
+        assertFalse(threads.contains(caller), "Sink should not run on the logging thread");
+    }
+
+    @Test
+    @DisplayName("Entries below the level should be discarded")
+    void testLevelGating() {
+        MowerLog.setLevel(LogLevel.WARN);
+        MowerLog.info("hidden");
+        MowerLog.warn("shown");
+        MowerLog.flush();
+        assertEquals(List.of("WARN shown"), entries, "Only warnings should pass");
+
+        MowerLog.setLevel(LogLevel.OFF);
+        assertFalse(MowerLog.isEnabled(LogLevel.ERROR), "OFF should disable every level");
+        assertThrows(IllegalArgumentException.class, () -> MowerLog.setLevel(null), "Level is required");
+    }
+
+    @Test
+    @DisplayName("State transitions should be logged without printing on the mower thread")
+    void testStateTransitionsLogged() {
+        LawnMower mower = new LawnMower(2, 2);
+        new SimulationEngine(mower, SimulationClock.fastForward()).run();
+        MowerLog.flush();
+
+        assertEquals(List.of("INFO " + MowingState.MESSAGE, "INFO " + FinishedState.MESSAGE), entries,
+            "Entering each state should log its message");
+    }
+
+    @Test
+    @DisplayName("A full ring should drop entries instead of blocking")
+    void testDropsWhenFull() throws InterruptedException {
+        Object gate = new Object();
+        MowerLog.setSink((timeNanos, level, message) -> {
+            synchronized (gate) { // Hold the drainer while the ring fills up
+                entries.add(message);
+            }
+        });
+        long droppedBefore = MowerLog.getDroppedCount();
+        synchronized (gate) {
+            for (int i = 0; i < 10_000; i++) {
+                MowerLog.info("flood");
+            }
+        }
+        MowerLog.flush();
+
+        assertTrue(MowerLog.getDroppedCount() > droppedBefore, "Overflow should be counted");
+        assertTrue(entries.size() < 10_000, "Overflow should be dropped");
+    }
+}
@@ -0,0 +1,201 @@
+package com.lawnmower;
+
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MowerMetricsTest {
+
+    private static class SlowObserver implements MowerObserver {
+        @Override
+        public void onCellMowed(int row, int col) {
+            long until = System.nanoTime() + 100_000;
+            while (System.nanoTime() < until) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Histogram should report percentiles within its precision")
+    void testHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1000);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(10_000, snapshot.getCount(), "Every value should be counted");
+        assertEquals(10_000_000, snapshot.getMax(), "Max should be exact");
+        assertEquals(5_000_500, snapshot.getMean(), 1e-6, "Mean should be exact");
+        assertEquals(5_000_000, snapshot.getPercentile(50), 5_000_000 * 0.04, "Median within 4%");
+        assertEquals(9_900_000, snapshot.getPercentile(99), 9_900_000 * 0.04, "p99 within 4%");
+        assertEquals(10_000_000, snapshot.getPercentile(100), "p100 should be the max");
+    }
+
+    @Test
+    @DisplayName("Histogram buckets should cover every long without gaps")
+    void testHistogramBuckets() {
+        for (long value : new long[] {0, 1, 63, 64, 65, 127, 128, 1L << 40, Long.MAX_VALUE}) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(bucket < LatencyHistogram.BUCKETS, "Bucket in range for " + value);
+            assertTrue(LatencyHistogram.highestIn(bucket) >= value, "Bucket should contain " + value);
+            assertTrue(bucket == 0 || LatencyHistogram.highestIn(bucket - 1) < value,
+                    "Previous bucket should end below " + value);
+        }
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketOf(Long.MAX_VALUE),
+                "Largest long should use the last bucket");
+    }
+
+    @Test
+    @DisplayName("Histogram should reject percentiles out of range and reset")
+    void testHistogramEdges() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.snapshot().getPercentile(99), "Empty histogram reports zero");
+        assertThrows(IllegalArgumentException.class, () -> histogram.snapshot().getPercentile(101));
+
+        histogram.record(-5);
+        histogram.record(42);
+        assertEquals(0, histogram.snapshot().getPercentile(50), "Negative values count as zero");
+        histogram.reset();
+        assertEquals(0, histogram.getCount(), "Reset should clear the count");
+        assertEquals(0, histogram.getMax(), "Reset should clear the max");
+    }
+
+    @Test
+    @DisplayName("Metrics should count ticks, cells, turns and coverage")
+    void testCounters() {
+        LawnMower mower = new LawnMower(4, 5);
+        new SimulationEngine(mower, SimulationClock.fastForward()).run();
+        MetricsSnapshot snapshot = mower.getMetrics().snapshot();
+
+        assertEquals(20, snapshot.getTicks(), "One tick per cell");
+        assertEquals(20, snapshot.getCellsMowed(), "Every cell mowed");
+        assertEquals(mower.getTurns(), snapshot.getTurns(), "Turns should match the mower");
+        assertEquals(6, snapshot.getTurns(), "Two turns at each of three row ends");
+        assertEquals(100.0, snapshot.getPercentCovered(), 1e-9, "Lawn fully covered");
+    }
+
+    @Test
+    @DisplayName("Coverage gauge should follow a shared lawn")
+    void testSharedLawnCoverage() {
+        LawnState lawn = new LawnState(10, 10);
+        LawnMower mower = new LawnMower(lawn);
+        mower.assign(0, 0, 5, 10);
+        new SimulationEngine(mower, SimulationClock.fastForward()).run();
+
+        assertEquals(50.0, mower.getMetrics().getPercentCovered(), 1e-9, "Half the lawn mowed");
+    }
+
+    @Test
+    @DisplayName("Each observer should get its own latency histogram")
+    void testObserverLatency() {
+        LawnMower mower = new LawnMower(3, 3);
+        MowerObserver fast = (row, col) -> { };
+        MowerObserver slow = new SlowObserver();
+        mower.getMetrics().enableHistograms();
+        mower.addObserver(fast);
+        mower.addObserver(slow);
+        new SimulationEngine(mower, SimulationClock.fastForward()).run();
+
+        MetricsSnapshot snapshot = mower.getMetrics().snapshot();
+        LatencyHistogram.Snapshot fastLatency = snapshot.getObserverLatency().get(fast);
+        LatencyHistogram.Snapshot slowLatency = snapshot.getObserverLatency().get(slow);
+        assertEquals(9, fastLatency.getCount(), "One callback per tick");
+        assertEquals(9, slowLatency.getCount(), "One callback per tick");
+        assertTrue(slowLatency.getPercentile(50) >= 100_000, "Slow observer spins 100 us per cell");
+        assertTrue(fastLatency.getPercentile(50) < slowLatency.getPercentile(50), "Fast observer should be faster");
+
+        mower.removeObserver(slow);
+        assertNull(mower.getMetrics().getObserverLatency(slow), "Removed observer's histogram is dropped");
+        assertNotNull(mower.getMetrics().getObserverLatency(fast), "Remaining observer keeps its histogram");
+    }
+
+    @Test
+    @DisplayName("Histograms should stay unallocated until enabled")
+    void testHistogramsOffByDefault() {
+        LawnMower mower = new LawnMower(2, 5);
+        mower.addObserver((row, col) -> { });
+        new SimulationEngine(mower, SimulationClock.scaled(1000, 1000)).run();
+        MowerMetrics metrics = mower.getMetrics();
+
+        assertFalse(metrics.isHistogramsEnabled(), "Histograms should be off by default");
+        assertNull(metrics.getTickJitter(), "No jitter histogram until enabled");
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(10, snapshot.getTicks(), "Counters should be on regardless");
+        assertEquals(0, snapshot.getTickJitter().getCount(), "Empty jitter without histograms");
+        assertTrue(snapshot.getObserverLatency().isEmpty(), "No observer latency without histograms");
+        assertEquals(0, metrics.getTickJitterMaxNanos(), "JMX jitter reads zero without histograms");
+
+        metrics.enableHistograms();
+        assertTrue(metrics.isHistogramsEnabled(), "Histograms should be on once enabled");
+        assertNotNull(metrics.getTickJitter(), "Jitter histogram allocated once enabled");
+    }
+
+    @Test
+    @DisplayName("Paced runs should record tick jitter; fast-forward runs should not")
+    void testTickJitter() {
+        LawnMower paced = new LawnMower(2, 5);
+        paced.getMetrics().enableHistograms();
+        new SimulationEngine(paced, SimulationClock.scaled(1000, 1000)).run();
+        LatencyHistogram.Snapshot jitter = paced.getMetrics().getTickJitter().snapshot();
+        assertEquals(10, jitter.getCount(), "Jitter recorded for every tick");
+        assertTrue(jitter.getMax() < 1_000_000_000L, "Ticks should not run a second late");
+
+        LawnMower fast = new LawnMower(2, 5);
+        fast.getMetrics().enableHistograms();
+        new SimulationEngine(fast, SimulationClock.fastForward()).run();
+        assertEquals(0, fast.getMetrics().getTickJitter().getCount(), "Unpaced ticks have no due time");
+    }
+
+    @Test
+    @DisplayName("Ticks per second should be measured between snapshots")
+    void testTickRate() throws InterruptedException {
+        LawnMower mower = new LawnMower(10, 10);
+        MetricsSnapshot before = mower.getMetrics().snapshot();
+        Thread.sleep(5);
+        new SimulationEngine(mower, SimulationClock.fastForward()).run();
+        MetricsSnapshot after = mower.getMetrics().snapshot();
+
+        assertTrue(after.getTicksPerSecond(before) > 0, "Ticks ran between the snapshots");
+        assertEquals(0, after.getTicksPerSecond(after), 0, "No time between a snapshot and itself");
+    }
+
+    @Test
+    @DisplayName("Metrics should be readable over JMX")
+    void testMBean() throws Exception {
+        LawnMower mower = new LawnMower(3, 3);
+        MowerMetrics metrics = mower.getMetrics();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = metrics.register("test mower");
+        mower.addObserver((row, col) -> { });
+        new SimulationEngine(mower, SimulationClock.fastForward()).run();
+
+        try {
+            assertTrue(server.isRegistered(name), "MBean should be registered");
+            assertEquals(9L, server.getAttribute(name, "Ticks"), "Ticks over JMX");
+            assertEquals(9L, server.getAttribute(name, "CellsMowed"), "Cells over JMX");
+            assertEquals(100.0, (Double) server.getAttribute(name, "PercentCovered"), 1e-9, "Coverage over JMX");
+            assertEquals(1, ((String[]) server.getAttribute(name, "ObserverNames")).length, "One observer");
+            assertEquals(1, ((long[]) server.getAttribute(name, "ObserverLatencyP99Nanos")).length,
+                    "One latency per observer");
+
+            server.invoke(name, "resetHistograms", null, null);
+            assertArrayEquals(new long[] {0}, metrics.getObserverLatencyP99Nanos(), "Reset over JMX");
+        } finally {
+            metrics.unregister();
+        }
+        assertFalse(server.isRegistered(name), "MBean should be unregistered");
+        assertThrows(IllegalArgumentException.class, () -> metrics.register(""));
+    }
+}
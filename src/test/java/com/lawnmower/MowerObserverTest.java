@@ -44,4 +44,16 @@ public class MowerObserverTest {
         assertDoesNotThrow(() -> observer.onCellMowed(5, 5),
             "Should handle out-of-bounds coordinates gracefully");
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("Default batch callback should deliver each cell in order")
+    void testDefaultBatchAdapter() {
+        StringBuilder delivered = new StringBuilder();
+        MowerObserver perCell = (row, col) -> delivered.append(row).append(',').append(col).append(';');
+
+        perCell.onCellsMowed(new int[] {0, 0, 1, 9}, new int[] {0, 1, 1, 9}, 3);
+
+        assertEquals("0,0;0,1;1,1;", delivered.toString(),
+            "Only the first count cells should be delivered, in order");
+    }
+}
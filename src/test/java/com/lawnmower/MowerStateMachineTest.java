@@ -0,0 +1,173 @@
+package com.lawnmower;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MowerStateMachineTest {
+
+    // Records status changes in order
+    private static class StatusRecorder implements MowerObserver {
+        final List<MowerStatus> statuses = new ArrayList<>();
+
+        @Override
+        public void onCellMowed(int row, int col) {
+        }
+
+        @Override
+        public void onStatusChanged(MowerStatus status) {
+            statuses.add(status);
+        }
+    }
+
+    @Test
+    @DisplayName("Transition table should allow only the defined transitions")
+    void testTransitionTable() {
+        assertSame(MowingState.INSTANCE, MowerStateMachine.next(IdleState.INSTANCE, MowerEvent.START), "Idle starts");
+        assertSame(PausedState.INSTANCE, MowerStateMachine.next(MowingState.INSTANCE, MowerEvent.PAUSE), "Mowing pauses");
+        assertSame(MowingState.INSTANCE, MowerStateMachine.next(PausedState.INSTANCE, MowerEvent.RESUME), "Paused resumes");
+        assertSame(FinishedState.INSTANCE, MowerStateMachine.next(MowingState.INSTANCE, MowerEvent.FINISH), "Mowing finishes");
+        assertSame(IdleState.INSTANCE, MowerStateMachine.next(FinishedState.INSTANCE, MowerEvent.RESET), "New work resets");
+        assertNull(MowerStateMachine.next(IdleState.INSTANCE, MowerEvent.PAUSE), "Idle cannot pause");
+        assertNull(MowerStateMachine.next(FinishedState.INSTANCE, MowerEvent.START), "Finished cannot start");
+
+        for (MowerStatus status : MowerStatus.values()) {
+            assertEquals(status, MowerStateMachine.stateFor(status).getStatus(), "State should match its status");
+        }
+    }
+
+    @Test
+    @DisplayName("Pause and resume should keep the mower's place")
+    void testPauseKeepsCursor() {
+        LawnMower mower = new LawnMower(5, 5);
+        StatusRecorder recorder = new StatusRecorder();
+        mower.addObserver(recorder);
+
+        mower.begin();
+        for (int i = 0; i < 7; i++) {
+            mower.step();
+        }
+        mower.pause();
+        assertFalse(mower.step(), "A paused mower should not mow");
+        assertEquals(7, mower.getPathPosition(), "Cursor should be kept while paused");
+
+        mower.resume();
+        mower.step();
+        assertEquals(8, mower.getPathPosition(), "Mowing should continue from the cursor");
+        assertEquals(List.of(MowerStatus.MOWING, MowerStatus.PAUSED, MowerStatus.MOWING), recorder.statuses,
+            "Observers should see each transition");
+    }
+
+    @Test
+    @DisplayName("Finishing should enter the finished state until new work is assigned")
+    void testFinishAndReset() {
+        LawnMower mower = new LawnMower(3, 3);
+        StatusRecorder recorder = new StatusRecorder();
+        mower.addObserver(recorder);
+
+        new SimulationEngine(mower, SimulationClock.fastForward()).run();
+        assertSame(FinishedState.INSTANCE, mower.getState(), "Mower should be finished");
+        mower.start();
+        assertFalse(mower.isMowing(), "A finished mower cannot start again");
+
+        mower.assign(0, 0, 3, 3);
+        assertEquals(MowerStatus.IDLE, mower.getStatus(), "New work makes the mower idle");
+        assertEquals(List.of(MowerStatus.MOWING, MowerStatus.FINISHED, MowerStatus.IDLE), recorder.statuses,
+            "Observers should see each transition");
+    }
+
+    @Test
+    @DisplayName("A paused mower should hold the simulation engine until resumed")
+    void testEngineWaitsWhilePaused() throws InterruptedException {
+        LawnMower mower = new LawnMower(10, 10);
+        mower.addObserver((row, col) -> {
+            if (row == 3 && col == 0) {
+                mower.pause();
+            }
+        });
+        SimulationEngine engine = new SimulationEngine(mower, SimulationClock.fastForward());
+        Thread runner = new Thread(engine::run);
+        runner.start();
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (mower.getStatus() != MowerStatus.PAUSED && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(MowerStatus.PAUSED, mower.getStatus(), "Mower should pause mid-lawn");
+        assertTrue(runner.isAlive(), "Engine should wait while paused");
+
+        mower.resume();
+        runner.join(5000);
+        assertFalse(runner.isAlive(), "Engine should finish after resuming");
+        assertEquals(100, engine.getTicks(), "Every cell should be mowed exactly once");
+        assertEquals(MowerStatus.FINISHED, mower.getStatus(), "Mower should finish");
+    }
+
+    @Test
+    @DisplayName("Observers should be told of status changes without the mower's monitor held")
+    void testStatusObserverOutsideMonitor() throws InterruptedException {
+        LawnMower mower = new LawnMower(5, 5);
+        boolean[] reached = new boolean[1];
+        mower.addObserver(new MowerObserver() {
+            @Override
+            public void onCellMowed(int row, int col) {
+            }
+
+            @Override
+            public void onStatusChanged(MowerStatus status) {
+                // Another thread calling into the mower must not block on it
+                Thread other = new Thread(() -> mower.setTickPeriod(5));
+                other.start();
+                try {
+                    other.join(2000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                reached[0] = !other.isAlive();
+            }
+        });
+
+        mower.begin();
+
+        assertTrue(reached[0], "The other thread should not wait for the observer to return");
+        assertEquals(5, mower.getTickPeriodMillis(), "The other thread's call should have applied");
+        mower.stop();
+    }
+
+    @Test
+    @DisplayName("Start should not add a timer to a paused mower its caller is stepping")
+    void testStartIgnoredWhenCallerDriven() {
+        try (TickScheduler scheduler = new TickScheduler(1)) {
+            LawnMower mower = new LawnMower(5, 5);
+            mower.setScheduler(scheduler);
+            mower.begin();
+            mower.step();
+            mower.pause();
+
+            mower.start();
+            assertEquals(MowerStatus.PAUSED, mower.getStatus(), "Start should not continue a caller-driven mower");
+            assertEquals(0, scheduler.getScheduledCount(), "No timer should be scheduled");
+
+            mower.resume();
+            assertEquals(MowerStatus.MOWING, mower.getStatus(), "Resume continues it");
+            assertEquals(0, scheduler.getScheduledCount(), "Still driven by the caller only");
+            mower.stop();
+
+            // A timer-driven mower still continues on start()
+            mower.start();
+            mower.pause();
+            mower.start();
+            assertEquals(MowerStatus.MOWING, mower.getStatus(), "Start continues a timer-driven mower");
+            assertEquals(1, scheduler.getScheduledCount(), "One timer again");
+            mower.stop();
+        }
+    }
+}
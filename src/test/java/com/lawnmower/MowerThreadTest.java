@@ -0,0 +1,135 @@
+package com.lawnmower;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MowerThreadTest {
+
+    @BeforeEach
+    void setUp() {
+        MowerLog.setLevel(LogLevel.WARN);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MowerLog.setLevel(LogLevel.INFO);
+    }
+
+    @Test
+    @DisplayName("Mower thread should mow the whole lawn and end")
+    void testFullRun() throws InterruptedException {
+        LawnMower mower = new LawnMower(10, 10);
+        mower.getMetrics().enableHistograms();
+        int[] cells = new int[1];
+        mower.addObserver((row, col) -> cells[0]++);
+        MowerThread runner = new MowerThread(mower, 0, MowerThread.defaultThreadFactory());
+        runner.start();
+
+        assertTrue(runner.join(5000), "Thread should end when the mower finishes");
+        assertEquals(MowerStatus.FINISHED, mower.getStatus(), "Mower should finish");
+        assertEquals(100, cells[0], "Every cell reported");
+        assertEquals(1, mower.getMetrics().snapshot().getObserverLatency().size(),
+                "Only the caller's observer should remain");
+        assertThrows(IllegalStateException.class, runner::start);
+    }
+
+    @Test
+    @DisplayName("Ticks should be paced by the period")
+    void testPacing() throws InterruptedException {
+        LawnMower mower = new LawnMower(1, 20);
+        mower.getMetrics().enableHistograms();
+        MowerThread runner = new MowerThread(mower, 2);
+        long start = System.nanoTime();
+        runner.start();
+        assertTrue(runner.join(5000), "Run should end");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis >= 30, "19 periods of 2 ms should elapse: " + elapsedMillis);
+        assertEquals(20, mower.getMetrics().getTickJitter().getCount(), "Drift recorded for every tick");
+    }
+
+    @Test
+    @DisplayName("Pause should park the thread and resume should wake it")
+    void testPauseResumeStop() throws InterruptedException {
+        LawnMower mower = new LawnMower(100, 100);
+        MowerThread runner = new MowerThread(mower, 1);
+        runner.start();
+        Thread.sleep(30);
+        runner.pause();
+        Thread.sleep(10);
+        long paused = mower.getTicks();
+        Thread.sleep(40);
+        assertEquals(paused, mower.getTicks(), "No ticks while paused");
+        assertTrue(runner.getThread().isAlive(), "Thread waits while paused");
+
+        mower.resume(); // Directly on the mower works too
+        Thread.sleep(30);
+        assertTrue(mower.getTicks() > paused, "Ticks continue after resume");
+
+        runner.stop();
+        assertTrue(runner.join(5000), "Stop should end the thread promptly");
+        assertEquals(MowerStatus.IDLE, mower.getStatus(), "Stopped mower is idle");
+    }
+
+    @Test
+    @DisplayName("Stop should interrupt a controller blocked on I/O")
+    void testBlockingController() throws InterruptedException {
+        BlockingQueue<String> commands = new LinkedBlockingQueue<>();
+        LawnMower mower = new LawnMower(5, 5);
+        MowerThread runner = new MowerThread(mower, 0, MowerThread.defaultThreadFactory());
+        runner.setController(m -> commands.take());
+        runner.start();
+
+        for (int i = 0; i < 3; i++) {
+            commands.put("go");
+        }
+        long deadline = System.currentTimeMillis() + 5000;
+        while (mower.getTicks() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        Thread.sleep(20);
+        assertEquals(3, mower.getTicks(), "One tick per command");
+
+        runner.stop();
+        assertTrue(runner.join(5000), "Blocked controller should be interrupted");
+        assertEquals(3, mower.getTicks(), "No ticks after stop");
+    }
+
+    @Test
+    @DisplayName("Thousands of mowers should run concurrently")
+    void testManyMowers() throws InterruptedException {
+        List<MowerThread> runners = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            MowerThread runner = new MowerThread(new LawnMower(1, 10), 1);
+            runners.add(runner);
+            runner.start();
+        }
+        for (MowerThread runner : runners) {
+            assertTrue(runner.join(10_000), "Every mower should finish");
+            assertFalse(runner.getMower().isMowing(), "Mower done");
+            assertEquals(10, runner.getMower().getCellsMowed(), "Every cell mowed");
+        }
+    }
+
+    @Test
+    @DisplayName("Constructor should reject missing arguments")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> new MowerThread(null, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MowerThread(new LawnMower(1, 1), -1, MowerThread.defaultThreadFactory()));
+        assertEquals(Runtime.version().feature() >= 21, MowerThread.isVirtualThreadAvailable(),
+                "Virtual threads exactly on Java 21+");
+    }
+}
@@ -0,0 +1,117 @@
+package com.lawnmower;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ObserverRegistryTest {
+    private ObserverRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ObserverRegistry();
+    }
+
+    @Test
+    @DisplayName("Observers should be added and removed")
+    void testAddRemove() {
+        MowerObserver first = (row, col) -> { };
+        MowerObserver second = (row, col) -> { };
+
+        assertTrue(registry.add(first), "Observer should be added");
+        assertTrue(registry.add(second), "Observer should be added");
+        assertFalse(registry.add(null), "Null should be ignored");
+        assertArrayEquals(new MowerObserver[] {first, second}, registry.snapshot(), "Order should be kept");
+
+        assertTrue(registry.remove(first), "Registered observer should be removed");
+        assertFalse(registry.remove(first), "Removing twice should report false");
+        assertArrayEquals(new MowerObserver[] {second}, registry.snapshot(), "Only the other observer remains");
+
+        assertTrue(registry.remove(second), "Last observer should be removed");
+        assertTrue(registry.isEmpty(), "Registry should be empty");
+    }
+
+    @Test
+    @DisplayName("Snapshots should not change when observers are added later")
+    void testSnapshotIsStable() {
+        MowerObserver first = (row, col) -> { };
+        registry.add(first);
+        MowerObserver[] snapshot = registry.snapshot();
+
+        registry.add((row, col) -> { });
+
+        assertEquals(1, snapshot.length, "Existing snapshot should be unaffected");
+        assertSame(first, snapshot[0], "Existing snapshot should keep its observer");
+        assertEquals(2, registry.size(), "Registry should see the new observer");
+    }
+
+    @Test
+    @DisplayName("Concurrent adds and removes should not lose registrations")
+    void testConcurrentUpdates() throws InterruptedException {
+        int numThreads = 8;
+        int perThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        CountDownLatch latch = new CountDownLatch(numThreads);
+        List<MowerObserver> kept = new ArrayList<>();
+        for (int t = 0; t < numThreads; t++) {
+            MowerObserver keep = (row, col) -> { };
+            kept.add(keep);
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < perThread; i++) {
+                        MowerObserver temporary = (row, col) -> { };
+                        registry.add(temporary);
+                        registry.remove(temporary);
+                    }
+                    registry.add(keep);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS), "Updates should finish");
+        executor.shutdown();
+
+        assertEquals(numThreads, registry.size(), "Only the kept observers should remain");
+        for (MowerObserver keep : kept) {
+            assertTrue(registry.remove(keep), "Each kept observer should be registered");
+        }
+    }
+
+    @Test
+    @DisplayName("Observers should be attached and detached while the mower runs")
+    void testChangesDuringNotification() {
+        LawnMower mower = new LawnMower(10, 10);
+        AtomicInteger lateCalls = new AtomicInteger();
+        MowerObserver late = (row, col) -> lateCalls.incrementAndGet();
+        mower.addObserver(new MowerObserver() {
+            @Override
+            public void onCellMowed(int row, int col) {
+                if (row == 5 && col == 0) {
+                    mower.addObserver(late);
+                } else if (row == 8 && col == 0) {
+                    mower.removeObserver(late);
+                }
+            }
+        });
+
+        new SimulationEngine(mower, SimulationClock.fastForward()).run();
+
+        // Added while delivering (5,0), the last cell of row 5, so rows 6 and 7
+        // are seen; removed while delivering (8,0), whose snapshot still has it
+        assertEquals(21, lateCalls.get(), "Late observer should see rows 6 and 7 plus (8,0)");
+    }
+}
@@ -7,6 +7,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -90,26 +91,38 @@ class PerformanceTest {
     @Test
     @DisplayName("Should handle rapid state transitions efficiently")
     void testRapidStateTransitions() {
+        int[] transitions = new int[1];
+        lawnMower.addObserver(new MowerObserver() {
+            @Override
+            public void onCellMowed(int row, int col) {
+            }
+
+            @Override
+            public void onStatusChanged(MowerStatus status) {
+                transitions[0]++;
+            }
+        });
         long startTime = System.nanoTime();
         
-        // Perform many rapid state transitions
+        // Drive the mower's state machine through many rapid transitions
         for (int i = 0; i < 1000; i++) {
-            MowerState idleState = new IdleState(lawnMower);
-            idleState.execute();
-            
-            MowerState mowingState = new MowingState(lawnMower);
-            mowingState.execute();
-            
-            MowerState pausedState = new PausedState(lawnMower);
-            pausedState.execute();
-            
-            MowerState finishedState = new FinishedState(lawnMower);
-            finishedState.execute();
+            lawnMower.begin();
+            assertEquals(MowerStatus.MOWING, lawnMower.getStatus(), "Mower should be mowing");
+
+            lawnMower.pause();
+            assertEquals(MowerStatus.PAUSED, lawnMower.getStatus(), "Mower should be paused");
+
+            lawnMower.resume();
+            assertEquals(MowerStatus.MOWING, lawnMower.getStatus(), "Mower should be mowing again");
+
+            lawnMower.stop();
+            assertEquals(MowerStatus.IDLE, lawnMower.getStatus(), "Mower should be idle");
         }
         
         long endTime = System.nanoTime();
         long duration = TimeUnit.NANOSECONDS.toMillis(endTime - startTime);
         
+        assertEquals(4000, transitions[0], "Every transition should be observed");
         assertTrue(duration < 5000, "State transitions should complete within 5 seconds");
     }
 
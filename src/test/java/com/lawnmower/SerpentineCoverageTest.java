@@ -0,0 +1,180 @@
+package com.lawnmower;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SerpentineCoverageTest {
+
+    private static final int[][] REGIONS = {
+        {0, 0, 5, 7}, {2, 3, 9, 4}, {1, 1, 2, 10}, {0, 0, 1, 1}, {3, 2, 11, 13}
+    };
+
+    private static void assertSameMower(LawnMower expected, LawnMower actual, String label) {
+        assertEquals(expected.getPathPosition(), actual.getPathPosition(), label + ": path position");
+        assertEquals(expected.getCurrentRow(), actual.getCurrentRow(), label + ": row");
+        assertEquals(expected.getCurrentCol(), actual.getCurrentCol(), label + ": col");
+        assertEquals(expected.getCellsMowed(), actual.getCellsMowed(), label + ": cells mowed");
+        assertEquals(expected.getDuplicateClaims(), actual.getDuplicateClaims(), label + ": duplicates");
+        assertEquals(expected.getMowingDistance(), actual.getMowingDistance(), label + ": mowing distance");
+        assertEquals(expected.getTransitDistance(), actual.getTransitDistance(), label + ": transit");
+        assertEquals(expected.getTurns(), actual.getTurns(), label + ": turns");
+        assertEquals(expected.getTicks(), actual.getTicks(), label + ": ticks");
+        assertEquals(expected.getStatus(), actual.getStatus(), label + ": status");
+    }
+
+    @Test
+    @DisplayName("Cell at each tick should match the stepped serpentine path")
+    void testCellAtMatchesPath() {
+        for (boolean byRows : new boolean[] {true, false}) {
+            for (int[] r : REGIONS) {
+                SerpentinePath path = new SerpentinePath(byRows);
+                path.reset(r[0], r[1], r[2], r[3]);
+                SerpentineCoverage closed = new SerpentineCoverage(r[0], r[1], r[2], r[3], byRows);
+                long tick = 0;
+                while (path.hasNext()) {
+                    assertEquals(path.next(), closed.cellAt(tick), "Tick " + tick + " of " + closed.getTotalTicks());
+                    tick++;
+                }
+                assertEquals(tick, closed.getTotalTicks(), "Total ticks");
+                assertEquals(0, closed.remainingTicks(tick), "Nothing left at the end");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Turn count should match a stepped mower")
+    void testTurnsMatchMower() {
+        for (CoverageStrategy strategy : new CoverageStrategy[] {
+                CoverageStrategy.ROW_SERPENTINE, CoverageStrategy.COLUMN_SERPENTINE}) {
+            for (int[] size : new int[][] {{5, 7}, {1, 9}, {9, 1}, {2, 2}, {6, 3}}) {
+                long stepped = steppedTurns(size[0], size[1], strategy);
+                SerpentineCoverage closed = new SerpentineCoverage(0, 0, size[0], size[1],
+                        strategy == CoverageStrategy.ROW_SERPENTINE);
+                assertEquals(stepped, closed.getTotalTurns(), strategy + " " + size[0] + "x" + size[1]);
+            }
+        }
+    }
+
+    private static long steppedTurns(int rows, int cols, CoverageStrategy strategy) {
+        LawnMower mower = new LawnMower(rows, cols);
+        mower.setCoveragePath(strategy.create());
+        mower.addObserver((row, col) -> { }); // Observers force stepping
+        new SimulationEngine(mower, SimulationClock.fastForward()).run();
+        return mower.getTurns();
+    }
+
+    @Test
+    @DisplayName("Bulk marking should mow exactly the cells of the tick range")
+    void testMarkMowed() {
+        for (boolean byRows : new boolean[] {true, false}) {
+            SerpentineCoverage closed = new SerpentineCoverage(1, 2, 9, 13, byRows);
+            long[][] ranges = {{0, 88}, {3, 4}, {5, 40}, {17, 80}, {0, 0}, {60, 200}};
+            for (long[] range : ranges) {
+                LawnState bulk = new LawnState(10, 15);
+                LawnState single = new LawnState(10, 15);
+                bulk.mow(1, 2); // Already mowed cells are not counted again
+                single.mow(1, 2);
+                long expected = 0;
+                for (long t = range[0]; t < Math.min(range[1], closed.getTotalTicks()); t++) {
+                    long cell = closed.cellAt(t);
+                    if (single.tryMow(CoveragePath.row(cell), CoveragePath.col(cell))) {
+                        expected++;
+                    }
+                }
+                long marked = closed.markMowed(bulk, range[0], range[1]);
+                String label = (byRows ? "rows " : "columns ") + range[0] + ".." + range[1];
+                assertEquals(expected, marked, label + ": newly mowed");
+                assertEquals(single.getMowedCount(), bulk.getMowedCount(), label + ": mowed count");
+                for (int row = 0; row < 10; row++) {
+                    for (int col = 0; col < 15; col++) {
+                        assertEquals(single.isMowed(row, col), bulk.isMowed(row, col), label + " at " + row + "," + col);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Advancing should leave the mower as stepping would")
+    void testAdvanceMatchesStepping() {
+        for (CoverageStrategy strategy : new CoverageStrategy[] {
+                null, CoverageStrategy.ROW_SERPENTINE, CoverageStrategy.COLUMN_SERPENTINE}) {
+            LawnState steppedLawn = new LawnState(12, 9);
+            LawnState advancedLawn = new LawnState(12, 9);
+            steppedLawn.mowRange(5, 0, 4); // Cells claimed earlier count as duplicates
+            advancedLawn.mowRange(5, 0, 4);
+            LawnMower stepped = new LawnMower(steppedLawn);
+            LawnMower advanced = new LawnMower(advancedLawn);
+            if (strategy != null) {
+                stepped.setCoveragePath(strategy.create());
+                advanced.setCoveragePath(strategy.create());
+            }
+            stepped.assign(2, 1, 11, 8); // Drives in from 0,0
+            advanced.assign(2, 1, 11, 8);
+            stepped.begin();
+            advanced.begin();
+
+            String label = strategy == null ? "FREE_RUN" : strategy.name();
+            for (long chunk : new long[] {1, 2, 7, 1, 13, 30, 1000}) {
+                long ran = advanced.advance(chunk);
+                for (long i = 0; i < ran; i++) {
+                    stepped.step();
+                }
+                assertSameMower(stepped, advanced, label + " after " + chunk);
+            }
+            assertFalse(advanced.isMowing(), label + ": mower should finish");
+            assertEquals(steppedLawn.getMowedCount(), advancedLawn.getMowedCount(), label + ": lawn coverage");
+        }
+    }
+
+    @Test
+    @DisplayName("Standalone mower should jump to the end in one call")
+    void testAdvanceStandalone() {
+        LawnMower stepped = new LawnMower(40, 30);
+        LawnMower advanced = new LawnMower(40, 30);
+        stepped.begin();
+        advanced.begin();
+        while (stepped.step()) {
+            // Step to the end
+        }
+        assertEquals(1200, advanced.advance(Long.MAX_VALUE), "One tick per cell");
+        assertSameMower(stepped, advanced, "Whole lawn");
+        assertEquals(0, advanced.advance(10), "Finished mower runs no ticks");
+    }
+
+    @Test
+    @DisplayName("Observers and obstacles should fall back to stepping")
+    void testFallbacks() {
+        LawnMower observed = new LawnMower(6, 6);
+        int[] cells = new int[1];
+        observed.addObserver((row, col) -> cells[0]++);
+        observed.begin();
+        assertEquals(36, observed.advance(100), "Observed mower runs every tick");
+        observed.flushBatch();
+        assertEquals(36, cells[0], "Every cell reported");
+
+        LawnState lawn = new LawnState(6, 6);
+        lawn.addObstacle(2, 2, 4, 4);
+        LawnMower blocked = new LawnMower(lawn);
+        blocked.begin();
+        assertEquals(32, blocked.advance(100), "Obstacle cells are not ticks");
+        assertTrue(lawn.isFullyMowed(), "Every free cell mowed");
+    }
+
+    @Test
+    @DisplayName("Queries on a huge lawn should need no simulation")
+    void testHugeLawnQueries() {
+        SerpentineCoverage closed = new SerpentineCoverage(0, 0, 1_000_000, 1_000_000, true);
+        assertEquals(1_000_000_000_000L, closed.getTotalTicks(), "A trillion cells");
+        assertEquals(CoveragePath.pack(1, 999_999), closed.cellAt(1_000_000), "Second lane starts at the far end");
+        assertEquals(CoveragePath.pack(999_999, 0), closed.cellAt(closed.getTotalTicks() - 1),
+                "Even lane count ends on the left");
+        assertEquals(1_999_998, closed.getTotalTurns(), "Two turns per lane change");
+        assertEquals(1, closed.remainingTicks(closed.getTotalTicks() - 1), "One tick left");
+        assertThrows(IndexOutOfBoundsException.class, () -> closed.cellAt(closed.getTotalTicks()));
+    }
+}
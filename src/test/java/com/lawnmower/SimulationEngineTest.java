@@ -0,0 +1,172 @@
+package com.lawnmower;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SimulationEngineTest {
+
+    private static class CoverageObserver implements MowerObserver {
+        private final boolean[][] covered;
+        private int callCount = 0;
+
+        CoverageObserver(int rows, int cols) {
+            covered = new boolean[rows][cols];
+        }
+
+        @Override
+        public void onCellMowed(int row, int col) {
+            covered[row][col] = true;
+            callCount++;
+        }
+
+        int coveredCells() {
+            int count = 0;
+            for (boolean[] row : covered) {
+                for (boolean cell : row) {
+                    if (cell) count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    @Test
+    @DisplayName("Fast-forward clock should cover a 100x100 lawn without waiting")
+    void testFastForwardFullCoverage() {
+        LawnMower mower = new LawnMower(100, 100);
+        CoverageObserver observer = new CoverageObserver(100, 100);
+        mower.addObserver(observer);
+
+        long startTime = System.nanoTime();
+        long ticks = new SimulationEngine(mower, SimulationClock.fastForward()).run();
+        long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        assertEquals(10_000, ticks, "One tick per cell");
+        assertEquals(10_000, observer.callCount, "Every tick should notify observers once");
+        assertEquals(10_000, observer.coveredCells(), "Every cell should be mowed");
+        assertFalse(mower.isMowing(), "Mower should stop when finished");
+        assertTrue(duration < 2000, "Fast-forward run should not wait on the 1 second period");
+    }
+
+    @Test
+    @DisplayName("Scaled clock should pace ticks at the sped-up rate")
+    void testScaledClock() {
+        LawnMower mower = new LawnMower(5, 5);
+        CoverageObserver observer = new CoverageObserver(5, 5);
+        mower.addObserver(observer);
+
+        long startTime = System.nanoTime();
+        long ticks = new SimulationEngine(mower, SimulationClock.scaled(1000, 1000)).run();
+        long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        assertEquals(25, ticks, "One tick per cell");
+        assertEquals(25, observer.coveredCells(), "Every cell should be mowed");
+        assertTrue(duration >= 20, "24 tick periods of 1 ms should elapse");
+        assertTrue(duration < 2000, "Scaled run should be far faster than real time");
+    }
+
+    @Test
+    @DisplayName("Engine should drive the mediator exactly like the timer does")
+    void testMediatorInEngineMode() {
+        LawnMower mower = new LawnMower(5, 5);
+        LawnGrid grid = new LawnGrid(5, 5);
+        new MowerMediator(grid, mower);
+        CoverageObserver observer = new CoverageObserver(5, 5);
+        mower.addObserver(observer);
+
+        new SimulationEngine(mower, SimulationClock.fastForward()).run();
+
+        assertEquals(25, observer.coveredCells(), "Every cell should be mowed");
+    }
+
+    @Test
+    @DisplayName("Bounded runs should pause and resume from the same position")
+    void testBoundedRuns() {
+        LawnMower mower = new LawnMower(4, 4);
+        CoverageObserver observer = new CoverageObserver(4, 4);
+        mower.addObserver(observer);
+        SimulationEngine engine = new SimulationEngine(mower, SimulationClock.fastForward());
+
+        assertEquals(10, engine.run(10), "Run should stop after the tick budget");
+        assertFalse(mower.isMowing(), "Mower should be stopped between runs");
+        assertEquals(10, observer.coveredCells(), "Ten cells should be mowed");
+
+        assertEquals(6, engine.run(), "Second run should finish the lawn");
+        assertEquals(16, observer.coveredCells(), "Every cell should be mowed once");
+        assertEquals(16, observer.callCount, "No cell should be mowed twice");
+        assertEquals(16, engine.getTicks(), "Engine should count ticks across runs");
+    }
+
+    @Test
+    @DisplayName("Stopping the mower should end the run")
+    void testStopEndsRun() {
+        LawnMower mower = new LawnMower(10, 10);
+        mower.addObserver((row, col) -> {
+            if (row == 2) {
+                mower.stop();
+            }
+        });
+
+        long ticks = new SimulationEngine(mower, SimulationClock.fastForward()).run();
+
+        assertEquals(21, ticks, "Run should end on the tick that stopped the mower");
+    }
+
+    @Test
+    @DisplayName("Observers should receive cells in batches of the configured size")
+    void testBatchedNotifications() {
+        LawnMower mower = new LawnMower(10, 25);
+        mower.setBatchSize(64);
+        CoverageObserver perCell = new CoverageObserver(10, 25);
+        List<Integer> batchSizes = new ArrayList<>();
+        mower.addObserver(perCell);
+        mower.addObserver(new MowerObserver() {
+            @Override
+            public void onCellMowed(int row, int col) {
+                batchSizes.add(1);
+            }
+
+            @Override
+            public void onCellsMowed(int[] rows, int[] cols, int count) {
+                batchSizes.add(count);
+            }
+        });
+
+        new SimulationEngine(mower, SimulationClock.fastForward()).run();
+
+        assertEquals(List.of(64, 64, 64, 58), batchSizes, "Full batches then the remainder");
+        assertEquals(250, perCell.coveredCells(), "Per-cell observers should see every cell");
+        assertEquals(250, perCell.callCount, "Per-cell observers should see each cell once");
+    }
+
+    @Test
+    @DisplayName("Stopping mid-batch should still deliver the partial batch")
+    void testPartialBatchFlushedOnStop() {
+        LawnMower mower = new LawnMower(10, 10);
+        mower.setBatchSize(64);
+        CoverageObserver observer = new CoverageObserver(10, 10);
+        mower.addObserver(observer);
+
+        new SimulationEngine(mower, SimulationClock.fastForward()).run(10);
+
+        assertEquals(10, observer.coveredCells(), "Cells mowed before the stop should be delivered");
+        assertThrows(IllegalArgumentException.class, () -> mower.setBatchSize(0));
+    }
+
+    @Test
+    @DisplayName("Engine should reject missing collaborators")
+    void testInvalidArguments() {
+        LawnMower mower = new LawnMower(1, 1);
+        assertThrows(IllegalArgumentException.class, () -> new SimulationEngine(null, SimulationClock.fastForward()));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationEngine(mower, null));
+        assertThrows(IllegalArgumentException.class, () -> SimulationClock.scaled(1000, 0));
+    }
+}
@@ -0,0 +1,121 @@
+package com.lawnmower;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SimulationSnapshotTest {
+    @TempDir
+    Path dir;
+
+    private static long run(LawnMower mower, long ticks) {
+        return new SimulationEngine(mower, SimulationClock.fastForward()).run(ticks);
+    }
+
+    @Test
+    @DisplayName("A restored run should finish exactly like the original")
+    void testRestoreContinuesIdentically() {
+        LawnState lawn = new LawnState(40, 30);
+        lawn.addObstacle(10, 5, 20, 25);
+        LawnMower mower = new LawnMower(lawn);
+        run(mower, 250);
+
+        SimulationSnapshot snapshot = SimulationSnapshot.capture(lawn, mower);
+        run(mower, Long.MAX_VALUE);
+
+        LawnState restoredLawn = snapshot.restoreLawn();
+        assertEquals(250, restoredLawn.getMowedCount(), "Snapshot should hold the lawn at capture time");
+        assertTrue(restoredLawn.isObstacle(15, 15), "Obstacles should be restored");
+        LawnMower restored = snapshot.restoreMower(0, restoredLawn);
+        run(restored, Long.MAX_VALUE);
+
+        assertTrue(restoredLawn.isFullyMowed(), "Restored run should finish the lawn");
+        assertEquals(mower.getCellsMowed(), restored.getCellsMowed(), "Cells mowed should match");
+        assertEquals(mower.getTransitDistance(), restored.getTransitDistance(), "Transit should match");
+        assertEquals(mower.getTurns(), restored.getTurns(), "Turns should match");
+        assertEquals(mower.getTicks(), restored.getTicks(), "Tick count should carry over");
+        assertEquals(mower.getCurrentRow(), restored.getCurrentRow(), "Final row should match");
+        assertEquals(mower.getCurrentCol(), restored.getCurrentCol(), "Final column should match");
+    }
+
+    @Test
+    @DisplayName("Branches restored from one snapshot should be independent")
+    void testBranching() {
+        LawnState lawn = new LawnState(20, 20);
+        LawnMower mower = new LawnMower(lawn);
+        mower.setCoveragePath(CoverageStrategy.SPIRAL.create());
+        run(mower, 100);
+        SimulationSnapshot snapshot = SimulationSnapshot.capture(lawn, mower);
+
+        LawnState first = snapshot.restoreLawn();
+        LawnState second = snapshot.restoreLawn();
+        LawnMower spiral = snapshot.restoreMower(0, first);
+        LawnMower other = snapshot.restoreMower(0, second, CoverageStrategy.ROW_SERPENTINE.create());
+        assertTrue(spiral.getCoveragePath() instanceof SpiralPath, "Strategy should be restored");
+        run(spiral, 10);
+
+        assertEquals(110, first.getMowedCount(), "First branch moved on");
+        assertEquals(100, second.getMowedCount(), "Second branch should be untouched");
+        assertEquals(100, other.getPathPosition(), "Cursor should be restored on the replacement path");
+    }
+
+    @Test
+    @DisplayName("Snapshot should round-trip through bytes and files")
+    void testSerialization() throws IOException {
+        LawnState lawn = new LawnState(10, 10);
+        LawnMower shared = new LawnMower(lawn);
+        LawnMower standalone = new LawnMower(5, 5);
+        standalone.setBatchSize(4);
+        standalone.setTickPeriod(250);
+        run(shared, 42);
+        SimulationSnapshot snapshot = SimulationSnapshot.capture(lawn, shared, standalone);
+
+        SimulationSnapshot copy = SimulationSnapshot.fromBytes(snapshot.toByteArray());
+        Path file = dir.resolve("snapshot.bin");
+        snapshot.write(file);
+        SimulationSnapshot loaded = SimulationSnapshot.read(file);
+
+        assertEquals(2, copy.getMowerCount(), "Both mowers should be captured");
+        assertEquals(42, loaded.restoreLawn().getMowedCount(), "Lawn should survive the file");
+        assertEquals(MowerStatus.IDLE, loaded.getStatus(0), "Stopped mid-lawn is idle");
+        assertFalse(loaded.wasMowing(0), "Mower was stopped");
+        LawnMower restored = loaded.restoreMower(1, null);
+        assertEquals(4, restored.getBatchSize(), "Batch size should be restored");
+        assertEquals(250, restored.getTickPeriodMillis(), "Tick period should be restored");
+        assertEquals(42, loaded.restoreMower(0, loaded.restoreLawn()).getTicks(), "Tick count should be restored");
+        assertEquals(null, restored.getLawn(), "Standalone mower should stay standalone");
+        assertThrows(IllegalArgumentException.class, () -> loaded.restoreMower(0, null),
+            "Shared mower needs a lawn");
+        assertThrows(IllegalArgumentException.class, () -> SimulationSnapshot.fromBytes(new byte[8]),
+            "Garbage should be rejected");
+    }
+
+    @Test
+    @DisplayName("Capturing a 1000x1000 lawn should be fast enough to do every few ticks")
+    void testCaptureSpeed() {
+        LawnState lawn = new LawnState(1000, 1000);
+        LawnMower mower = new LawnMower(lawn);
+        run(mower, 123_456);
+
+        for (int i = 0; i < 50; i++) { // Warm up
+            SimulationSnapshot.capture(lawn, mower).restoreLawn();
+        }
+        int rounds = 200;
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            SimulationSnapshot.capture(lawn, mower);
+        }
+        long averageMicros = (System.nanoTime() - start) / rounds / 1000;
+
+        // Sub-millisecond on a normal machine; generous bound for loaded CI
+        assertTrue(averageMicros < 5_000, "Capture took " + averageMicros + " us");
+    }
+}
@@ -18,11 +18,18 @@ class StateImplementationTest {
     void setUp() {
         lawnMower = new LawnMower(5, 5);
         // Set up output capture
+        MowerLog.flush(); // Earlier tests' entries go to the real console
         outputStream = new ByteArrayOutputStream();
         originalOut = System.out;
         System.setOut(new PrintStream(outputStream));
     }
 
+    // State messages are logged asynchronously; wait for them to be written
+    private String output() {
+        MowerLog.flush();
+        return outputStream.toString();
+    }
+
     @Test
     @DisplayName("IdleState should prompt to press Start")
     void testIdleState() {
@@ -31,7 +38,7 @@ class StateImplementationTest {
         idleState.execute();
         
         assertEquals("Mower is idle. Press Start to begin mowing.\n", 
-                    outputStream.toString(),
+                    output(),
                     "IdleState should display correct message");
     }
 
@@ -42,7 +49,7 @@ class StateImplementationTest {
         mowingState.execute();
         
         assertEquals("Mower is moving. Press stop to stop.\n", 
-                    outputStream.toString(),
+                    output(),
                     "MowingState should display correct message");
     }
 
@@ -53,7 +60,7 @@ class StateImplementationTest {
         pausedState.execute();
         
         assertEquals("Mower is paused. Press resume to continue.\n", 
-                    outputStream.toString(),
+                    output(),
                     "PausedState should display correct message");
     }
 
@@ -64,7 +71,7 @@ class StateImplementationTest {
         finishedState.execute();
         
         assertEquals("Mowing completed!\n", 
-                    outputStream.toString(),
+                    output(),
                     "FinishedState should display correct message");
     }
 
@@ -19,24 +19,31 @@ class StateTransitionTest {
     @BeforeEach
     void setUp() {
         lawnMower = new LawnMower(5, 5);
+        MowerLog.flush(); // Earlier tests' entries go to the real console
         outputStream = new ByteArrayOutputStream();
         originalOut = System.out;
         System.setOut(new PrintStream(outputStream));
     }
 
+    // State messages are logged asynchronously; wait for them to be written
+    private String output() {
+        MowerLog.flush();
+        return outputStream.toString();
+    }
+
     @Test
     @DisplayName("State should transition from Idle to Mowing")
     void testIdleToMowingTransition() {
         // Start in Idle state
         MowerState idleState = new IdleState(lawnMower);
         idleState.execute();
-        assertTrue(outputStream.toString().contains("Press Start"), "Should show idle message");
+        assertTrue(output().contains("Press Start"), "Should show idle message");
         
         // Transition to Mowing state
         outputStream.reset();
         MowerState mowingState = new MowingState(lawnMower);
         mowingState.execute();
-        assertTrue(outputStream.toString().contains("moving"), "Should show mowing message");
+        assertTrue(output().contains("moving"), "Should show mowing message");
     }
 
     @Test
@@ -45,13 +52,13 @@ class StateTransitionTest {
         // Start in Mowing state
         MowerState mowingState = new MowingState(lawnMower);
         mowingState.execute();
-        assertTrue(outputStream.toString().contains("moving"), "Should show mowing message");
+        assertTrue(output().contains("moving"), "Should show mowing message");
         
         // Transition to Paused state
         outputStream.reset();
         MowerState pausedState = new PausedState(lawnMower);
         pausedState.execute();
-        assertTrue(outputStream.toString().contains("paused"), "Should show paused message");
+        assertTrue(output().contains("paused"), "Should show paused message");
     }
 
     @Test
@@ -60,13 +67,13 @@ class StateTransitionTest {
         // Start in Paused state
         MowerState pausedState = new PausedState(lawnMower);
         pausedState.execute();
-        assertTrue(outputStream.toString().contains("paused"), "Should show paused message");
+        assertTrue(output().contains("paused"), "Should show paused message");
         
         // Transition back to Mowing state
         outputStream.reset();
         MowerState mowingState = new MowingState(lawnMower);
         mowingState.execute();
-        assertTrue(outputStream.toString().contains("moving"), "Should show mowing message");
+        assertTrue(output().contains("moving"), "Should show mowing message");
     }
 
     @Test
@@ -75,13 +82,13 @@ class StateTransitionTest {
         // Start in Mowing state
         MowerState mowingState = new MowingState(lawnMower);
         mowingState.execute();
-        assertTrue(outputStream.toString().contains("moving"), "Should show mowing message");
+        assertTrue(output().contains("moving"), "Should show mowing message");
         
         // Transition to Finished state
         outputStream.reset();
         MowerState finishedState = new FinishedState(lawnMower);
         finishedState.execute();
-        assertTrue(outputStream.toString().contains("completed"), "Should show completed message");
+        assertTrue(output().contains("completed"), "Should show completed message");
     }
 
     @RepeatedTest(5)
@@ -98,7 +105,7 @@ class StateTransitionTest {
         for (MowerState state : states) {
             outputStream.reset();
             state.execute();
-            assertFalse(outputStream.toString().isEmpty(), "Each state should produce output");
+            assertFalse(output().isEmpty(), "Each state should produce output");
         }
     }
 
@@ -110,22 +117,22 @@ class StateTransitionTest {
             // Idle state
             outputStream.reset();
             new IdleState(lawnMower).execute();
-            String idleMessage = outputStream.toString();
+            String idleMessage = output();
             
             // Mowing state
             outputStream.reset();
             new MowingState(lawnMower).execute();
-            String mowingMessage = outputStream.toString();
+            String mowingMessage = output();
             
             // Paused state
             outputStream.reset();
             new PausedState(lawnMower).execute();
-            String pausedMessage = outputStream.toString();
+            String pausedMessage = output();
             
             // Finished state
             outputStream.reset();
             new FinishedState(lawnMower).execute();
-            String finishedMessage = outputStream.toString();
+            String finishedMessage = output();
             
             // Verify messages are consistent
             assertTrue(idleMessage.contains("Start"), "Idle message should mention Start");
@@ -149,7 +156,7 @@ class StateTransitionTest {
             assertNotNull(state, "State should be properly instantiated");
             outputStream.reset();
             state.execute();
-            assertFalse(outputStream.toString().isEmpty(), "State should be able to execute");
+            assertFalse(output().isEmpty(), "State should be able to execute");
         }
     }
 } 
\ No newline at end of file
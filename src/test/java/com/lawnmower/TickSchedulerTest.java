@@ -0,0 +1,256 @@
+package com.lawnmower;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TickSchedulerTest {
+
+    private TickScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        MowerLog.setLevel(LogLevel.WARN);
+        scheduler = new TickScheduler(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.close();
+        MowerLog.setLevel(LogLevel.INFO);
+    }
+
+    private static long threadsNamed(String prefix) {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith(prefix))
+                .count();
+    }
+
+    @Test
+    @DisplayName("Hundreds of ticking mowers should share a fixed set of threads")
+    void testConstantThreadCount() throws InterruptedException {
+        List<LawnMower> mowers = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            LawnMower mower = new LawnMower(10, 10);
+            mower.setScheduler(scheduler);
+            mower.setTickPeriod(5);
+            mowers.add(mower);
+        }
+        mowers.forEach(LawnMower::start);
+        assertEquals(300, scheduler.getScheduledCount(), "Every mower should be scheduled");
+        Thread.sleep(100);
+        assertEquals(2, threadsNamed("mower-tick-pool"), "Thread count should not grow with the fleet");
+
+        // Stopping and starting again schedules tasks, not threads
+        for (int round = 0; round < 5; round++) {
+            mowers.forEach(LawnMower::stop);
+            mowers.forEach(LawnMower::start);
+        }
+        assertEquals(2, threadsNamed("mower-tick-pool"), "Restarts should not create threads");
+        mowers.forEach(LawnMower::stop);
+        assertEquals(0, scheduler.getScheduledCount(), "Stopped mowers leave nothing scheduled");
+        assertTrue(mowers.stream().allMatch(mower -> mower.getTicks() > 0), "Every mower should have ticked");
+    }
+
+    @Test
+    @DisplayName("Each mower should tick at its own rate")
+    void testPerMowerRates() throws InterruptedException {
+        LawnMower fast = new LawnMower(100, 100);
+        LawnMower slow = new LawnMower(100, 100);
+        fast.setScheduler(scheduler);
+        slow.setScheduler(scheduler);
+        fast.setTickPeriod(2);
+        slow.setTickPeriod(20);
+        fast.start();
+        slow.start();
+        Thread.sleep(300);
+        fast.stop();
+        slow.stop();
+
+        assertTrue(slow.getTicks() >= 5, "Slow mower ticks about every 20 ms: " + slow.getTicks());
+        assertTrue(fast.getTicks() > 3 * slow.getTicks(),
+                "Fast mower should tick far more often: " + fast.getTicks() + " vs " + slow.getTicks());
+        assertEquals(2, fast.getTickPeriodMillis(), "Period kept");
+        assertThrows(IllegalArgumentException.class, () -> fast.setTickPeriod(0));
+    }
+
+    @Test
+    @DisplayName("Pause should hold ticks and resume should continue them")
+    void testPauseResume() throws InterruptedException {
+        LawnMower mower = new LawnMower(100, 100);
+        mower.setScheduler(scheduler);
+        mower.setTickPeriod(2);
+        mower.start();
+        Thread.sleep(50);
+        mower.pause();
+        long paused = mower.getTicks();
+        Thread.sleep(50);
+        assertEquals(paused, mower.getTicks(), "No ticks while paused");
+        assertEquals(0, scheduler.getScheduledCount(), "Paused mower is not scheduled");
+
+        mower.resume();
+        Thread.sleep(50);
+        mower.stop();
+        assertTrue(mower.getTicks() > paused, "Ticks should continue after resume");
+    }
+
+    @Test
+    @DisplayName("A tick still running across pause and resume should not overlap the next one")
+    void testTicksNeverOverlap() throws InterruptedException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        LawnMower mower = new LawnMower(100, 100);
+        mower.addObserver((row, col) -> {
+            if (running.incrementAndGet() > 1) {
+                overlaps.incrementAndGet();
+            }
+            long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(2);
+            while (System.nanoTime() < until) {
+                Thread.onSpinWait();
+            }
+            running.decrementAndGet();
+        });
+        mower.setScheduler(scheduler);
+        mower.setTickPeriod(1);
+        mower.start();
+        for (int i = 0; i < 50; i++) {
+            mower.pause();
+            mower.resume();
+            Thread.sleep(1);
+        }
+        mower.stop();
+
+        assertTrue(mower.getTicks() > 0, "Mower should have ticked");
+        assertEquals(0, overlaps.get(), "Two ticks of one mower should never run at once");
+    }
+
+    @Test
+    @DisplayName("A tick running during pause or stop should deliver its cells before the status change")
+    void testCellsBeforeStatusChange() throws InterruptedException {
+        List<Object> events = Collections.synchronizedList(new ArrayList<>());
+        LawnMower mower = new LawnMower(100, 100);
+        mower.addObserver(new MowerObserver() {
+            @Override
+            public void onCellMowed(int row, int col) {
+                long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(2);
+                while (System.nanoTime() < until) {
+                    Thread.onSpinWait();
+                }
+                events.add("cell");
+            }
+
+            @Override
+            public void onStatusChanged(MowerStatus status) {
+                events.add(status);
+            }
+        });
+        mower.setScheduler(scheduler);
+        mower.setTickPeriod(1);
+        mower.start();
+        for (int i = 0; i < 20; i++) {
+            Thread.sleep(3);
+            mower.pause();
+            mower.resume();
+        }
+        Thread.sleep(3);
+        mower.stop();
+        Thread.sleep(20);
+
+        synchronized (events) {
+            for (int i = 1; i < events.size(); i++) {
+                if ("cell".equals(events.get(i))) {
+                    assertEquals(MowerStatus.MOWING, lastStatusBefore(events, i),
+                            "Cells should only arrive while mowing: " + events);
+                }
+            }
+        }
+    }
+
+    private static Object lastStatusBefore(List<Object> events, int index) {
+        for (int i = index - 1; i >= 0; i--) {
+            if (events.get(i) instanceof MowerStatus) {
+                return events.get(i);
+            }
+        }
+        return null;
+    }
+
+    @Test
+    @DisplayName("Changing the period of a ticking mower should not tick early")
+    void testSetTickPeriodKeepsPace() throws InterruptedException {
+        CountDownLatch firstTick = new CountDownLatch(1);
+        LawnMower mower = new LawnMower(10, 10);
+        mower.addObserver((row, col) -> firstTick.countDown());
+        mower.setScheduler(scheduler);
+        mower.setTickPeriod(10_000);
+        mower.start();
+        assertTrue(firstTick.await(5, TimeUnit.SECONDS), "First tick runs at once");
+
+        mower.setTickPeriod(200);
+        Thread.sleep(100);
+        assertEquals(1, mower.getTicks(), "Next tick is one new period after the last");
+        assertEquals(200, mower.getTickPeriodMillis(), "New period applies");
+        mower.stop();
+    }
+
+    @Test
+    @DisplayName("Drift should be reported for every tick and reach the metrics")
+    void testDrift() throws InterruptedException {
+        AtomicInteger reports = new AtomicInteger();
+        CountDownLatch ticked = new CountDownLatch(10);
+        TickScheduler.Ticket ticket = scheduler.schedule(ticked::countDown, TimeUnit.MILLISECONDS.toNanos(1),
+                drift -> reports.incrementAndGet());
+        assertTrue(ticked.await(5, TimeUnit.SECONDS), "Ticks should run");
+        ticket.cancel();
+        assertTrue(ticket.isCancelled(), "Ticket cancelled");
+        assertTrue(reports.get() >= 10, "Drift reported before every tick");
+        assertEquals(reports.get(), ticket.getTicks(), "One report per tick");
+
+        LawnMower mower = new LawnMower(10, 10);
+        mower.getMetrics().enableHistograms();
+        mower.setScheduler(scheduler);
+        mower.setTickPeriod(1);
+        mower.start();
+        Thread.sleep(50);
+        mower.stop();
+        assertTrue(mower.getTicks() > 0, "Mower should have ticked");
+        assertTrue(mower.getMetrics().getTickJitter().getCount() >= mower.getTicks(),
+                "Mower metrics should see the drift of every tick");
+    }
+
+    @Test
+    @DisplayName("Failing ticks should not end the schedule")
+    void testFailingTick() throws InterruptedException {
+        CountDownLatch ticks = new CountDownLatch(3);
+        TickScheduler.Ticket ticket = scheduler.schedule(() -> {
+            ticks.countDown();
+            throw new IllegalStateException("Broken observer");
+        }, TimeUnit.MILLISECONDS.toNanos(1), drift -> { });
+        assertTrue(ticks.await(5, TimeUnit.SECONDS), "Ticks should continue after a failure");
+        ticket.cancel();
+    }
+
+    @Test
+    @DisplayName("Scheduler should validate arguments and protect the shared instance")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> new TickScheduler(0));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.schedule(null, 1, drift -> { }));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.schedule(() -> { }, 0, drift -> { }));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.schedule(() -> { }, -1, 1, drift -> { }));
+        assertThrows(IllegalStateException.class, () -> TickScheduler.shared().close());
+        assertThrows(IllegalArgumentException.class, () -> new LawnMower(1, 1).setScheduler(null));
+        assertFalse(TickScheduler.shared().getThreadCount() < 1, "Shared scheduler has threads");
+    }
+}
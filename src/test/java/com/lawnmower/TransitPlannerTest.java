@@ -0,0 +1,177 @@
+package com.lawnmower;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TransitPlannerTest {
+
+    // Reference breadth-first search distance, or -1 if unreachable
+    private static int bfs(LawnState lawn, int fromRow, int fromCol, int toRow, int toCol) {
+        int rows = lawn.getRows();
+        int cols = lawn.getCols();
+        if (lawn.isObstacle(fromRow, fromCol) || lawn.isObstacle(toRow, toCol)) {
+            return -1;
+        }
+        int[] distance = new int[rows * cols];
+        Arrays.fill(distance, -1);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        distance[fromRow * cols + fromCol] = 0;
+        queue.add(fromRow * cols + fromCol);
+        int[][] steps = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int[] step : steps) {
+                int row = node / cols + step[0];
+                int col = node % cols + step[1];
+                if (lawn.contains(row, col) && !lawn.isObstacle(row, col) && distance[row * cols + col] < 0) {
+                    distance[row * cols + col] = distance[node] + 1;
+                    queue.add(row * cols + col);
+                }
+            }
+        }
+        return distance[toRow * cols + toCol];
+    }
+
+    @Test
+    @DisplayName("Open lawn distance should be the Manhattan distance")
+    void testOpenLawn() {
+        TransitPlanner planner = new TransitPlanner(new LawnState(20, 30));
+        assertEquals(0, planner.distance(4, 4, 4, 4), "Start is the goal");
+        assertEquals(35, planner.distance(0, 0, 10, 25), "Straight-line grid distance");
+    }
+
+    @Test
+    @DisplayName("Planner should drive around a wall")
+    void testAroundWall() {
+        LawnState lawn = new LawnState(10, 10);
+        lawn.addObstacle(0, 5, 9, 6); // Wall with a gap in the bottom row
+        TransitPlanner planner = new TransitPlanner(lawn);
+
+        assertEquals(2 + 9 + 9, planner.distance(0, 4, 0, 6), "Down to the gap, across and back up");
+        long first = planner.getWaypoint(0);
+        long last = planner.getWaypoint(planner.getWaypointCount() - 1);
+        assertEquals(CoveragePath.pack(0, 4), first, "Waypoints start at the start");
+        assertEquals(CoveragePath.pack(0, 6), last, "Waypoints end at the goal");
+    }
+
+    @Test
+    @DisplayName("A clear row-then-column drive should need no search")
+    void testStraightDriveSkipsSearch() {
+        LawnState lawn = new LawnState(10, 10);
+        lawn.addObstacle(2, 0, 3, 8); // Wall open only at the right
+        TransitPlanner planner = new TransitPlanner(lawn);
+
+        assertEquals(7 + 6, planner.distance(0, 2, 6, 9), "Down the column is blocked, across then down is not");
+        assertEquals(0, planner.getExpandedNodes(), "Free runs should settle it without a search");
+        assertEquals(3, planner.getWaypointCount(), "Start, corner and goal");
+        assertEquals(CoveragePath.pack(0, 9), planner.getWaypoint(1), "Turn at the end of the row");
+
+        assertEquals(4 + 4 + 4, planner.distance(0, 4, 4, 4), "Around the wall needs the search");
+        assertTrue(planner.getExpandedNodes() > 0, "Blocked drives should be searched");
+        assertEquals(TransitPlanner.forCurrentThread(lawn), TransitPlanner.forCurrentThread(lawn),
+            "Mowers on one thread should share a planner per lawn");
+    }
+
+    @Test
+    @DisplayName("Unreachable cells and obstacles should have no distance")
+    void testUnreachable() {
+        LawnState lawn = new LawnState(10, 10);
+        lawn.addObstacle(0, 5, 10, 6);
+        TransitPlanner planner = new TransitPlanner(lawn);
+
+        assertEquals(-1, planner.distance(0, 0, 0, 9), "The wall splits the lawn");
+        assertEquals(-1, planner.distance(0, 0, 3, 5), "An obstacle cannot be a goal");
+        assertEquals(0, planner.getWaypointCount(), "No path, no waypoints");
+    }
+
+    @Test
+    @DisplayName("Jump point search should find shortest paths on random lawns")
+    void testMatchesBreadthFirstSearch() {
+        Random random = new Random(7);
+        for (int trial = 0; trial < 40; trial++) {
+            int rows = 5 + random.nextInt(25);
+            int cols = 5 + random.nextInt(25);
+            LawnState lawn = new LawnState(rows, cols);
+            int obstacles = rows * cols * random.nextInt(40) / 100;
+            for (int i = 0; i < obstacles; i++) {
+                lawn.setObstacle(random.nextInt(rows), random.nextInt(cols));
+            }
+            TransitPlanner planner = new TransitPlanner(lawn);
+            for (int query = 0; query < 50; query++) {
+                int fromRow = random.nextInt(rows);
+                int fromCol = random.nextInt(cols);
+                int toRow = random.nextInt(rows);
+                int toCol = random.nextInt(cols);
+                assertEquals(bfs(lawn, fromRow, fromCol, toRow, toCol),
+                    planner.distance(fromRow, fromCol, toRow, toCol),
+                    "Distance from (" + fromRow + "," + fromCol + ") to (" + toRow + "," + toCol + ") on trial " + trial);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Waypoints should be joined by straight obstacle-free lines")
+    void testWaypointsAreStraight() {
+        LawnState lawn = new LawnState(12, 12);
+        lawn.addObstacle(2, 0, 3, 10);
+        lawn.addObstacle(6, 2, 7, 12);
+        TransitPlanner planner = new TransitPlanner(lawn);
+
+        int distance = planner.distance(0, 0, 11, 0);
+        int walked = 0;
+        for (int i = 1; i < planner.getWaypointCount(); i++) {
+            long from = planner.getWaypoint(i - 1);
+            long to = planner.getWaypoint(i);
+            int fromRow = CoveragePath.row(from);
+            int fromCol = CoveragePath.col(from);
+            assertTrue(fromRow == CoveragePath.row(to) || fromCol == CoveragePath.col(to), "Legs should be straight");
+            int length = Math.abs(CoveragePath.row(to) - fromRow) + Math.abs(CoveragePath.col(to) - fromCol);
+            for (int s = 1; s <= length; s++) {
+                int row = fromRow + Integer.signum(CoveragePath.row(to) - fromRow) * s;
+                int col = fromCol + Integer.signum(CoveragePath.col(to) - fromCol) * s;
+                assertTrue(!lawn.isObstacle(row, col), "Legs should avoid obstacles");
+            }
+            walked += length;
+        }
+        assertEquals(distance, walked, "Legs should add up to the distance");
+        assertThrows(IndexOutOfBoundsException.class, () -> planner.getWaypoint(-1), "Waypoint index is checked");
+    }
+
+    @Test
+    @DisplayName("Mower should report planned transit separately from mowing")
+    void testMowerTransit() {
+        LawnState lawn = new LawnState(3, 7);
+        lawn.addObstacle(0, 3, 2, 4); // Wall open only in the bottom row
+        LawnMower mower = new LawnMower(lawn);
+
+        new SimulationEngine(mower, SimulationClock.fastForward()).run();
+
+        assertTrue(lawn.isFullyMowed(), "Every free cell should be mowed");
+        assertEquals(lawn.getMowableCount() - 1, mower.getMowingDistance(), "One move per mowed cell after the first");
+        // (0,2) to (0,4) is 2 down, 2 across and 2 up; (1,4) to (1,2) is 1 down,
+        // 2 across and 1 up. Only the cells before the target are transit.
+        assertEquals(6 - 1 + 4 - 1, mower.getTransitDistance(), "Both dead ends drive around the wall");
+        assertEquals(0, mower.getRelocations(), "Every cell is reachable");
+    }
+
+    @Test
+    @DisplayName("Cells in another component should count as relocations")
+    void testMowerRelocation() {
+        LawnState lawn = new LawnState(3, 7);
+        lawn.addObstacle(0, 3, 3, 4);
+        LawnMower mower = new LawnMower(lawn);
+
+        new SimulationEngine(mower, SimulationClock.fastForward()).run();
+
+        assertTrue(lawn.isFullyMowed(), "Every free cell should still be mowed");
+        assertTrue(mower.getRelocations() > 0, "The wall cannot be driven around");
+    }
+}
@@ -0,0 +1,140 @@
+package com.lawnmower;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TraversabilityIndexTest {
+
+    // Lawn with a wall at column 4, split into a left and right half
+    private static LawnState dividedLawn() {
+        LawnState lawn = new LawnState(5, 9);
+        lawn.addObstacle(0, 4, 5, 5);
+        lawn.setObstacle(2, 1);
+        return lawn;
+    }
+
+    @Test
+    @DisplayName("Rows should be split into free runs around obstacles")
+    void testFreeRuns() {
+        TraversabilityIndex index = dividedLawn().getTraversability();
+
+        assertEquals(3, index.getRunCount(2), "Row 2 has runs [0,1), [2,4) and [5,9)");
+        int run = index.firstRun(2);
+        assertEquals(0, index.getRunFrom(run), "First run starts at the edge");
+        assertEquals(1, index.getRunTo(run), "First run ends at the obstacle");
+        assertEquals(2, index.getRunCount(0), "Other rows only have the wall");
+        assertEquals(45 - 6, index.getFreeCellCount(), "Free cells exclude the obstacles");
+        assertEquals(-1, index.findRun(2, 4), "The wall is not part of any run");
+        assertEquals(5, index.nextFree(2, 4), "Blocked span is skipped in one lookup");
+        assertEquals(3, index.countFree(2, 0, 5), "Columns 0, 2 and 3 are free");
+    }
+
+    @Test
+    @DisplayName("Runs touching across rows should form connected components")
+    void testComponents() {
+        TraversabilityIndex index = dividedLawn().getTraversability();
+
+        assertEquals(2, index.getComponentCount(), "The wall splits the lawn in two");
+        assertTrue(index.isConnected(0, 0, 4, 3), "Left half is connected around the single obstacle");
+        assertTrue(index.isConnected(2, 0, 2, 2), "Cells beside the obstacle connect via other rows");
+        assertFalse(index.isConnected(0, 0, 0, 8), "Halves should not connect through the wall");
+        assertEquals(19, index.getComponentSize(index.component(0, 0)), "Left half has 20 cells minus one obstacle");
+        assertEquals(20, index.getComponentSize(index.component(0, 8)), "Right half is open");
+        assertEquals(-1, index.component(1, 4), "Obstacles belong to no component");
+    }
+
+    @Test
+    @DisplayName("Index should be cached until obstacles change")
+    void testIndexCaching() {
+        LawnState lawn = dividedLawn();
+        TraversabilityIndex index = lawn.getTraversability();
+        assertSame(index, lawn.getTraversability(), "Index should be reused");
+
+        lawn.setObstacle(0, 0);
+        assertNotSame(index, lawn.getTraversability(), "Index should be rebuilt after an obstacle change");
+    }
+
+    @Test
+    @DisplayName("Obstacle-aware path should visit every free cell once")
+    void testFreeRunPathCoverage() {
+        LawnState lawn = dividedLawn();
+        CoveragePath path = new FreeRunSerpentinePath(lawn);
+        path.reset(1, 1, 4, 8);
+
+        Set<Long> visited = new HashSet<>();
+        while (path.hasNext()) {
+            long cell = path.next();
+            assertFalse(lawn.isObstacle(CoveragePath.row(cell), CoveragePath.col(cell)), "Path should avoid obstacles");
+            assertTrue(visited.add(cell), "Cell should be visited once");
+        }
+        assertEquals(3 * 7 - 3 - 1, visited.size(), "Region minus the wall and the single obstacle");
+    }
+
+    @Test
+    @DisplayName("Obstacle-aware path should match the row serpentine on an open lawn")
+    void testFreeRunPathOnOpenLawn() {
+        CoveragePath expected = CoverageStrategy.ROW_SERPENTINE.create();
+        CoveragePath actual = new FreeRunSerpentinePath(new LawnState(6, 6));
+        expected.reset(1, 2, 5, 6);
+        actual.reset(1, 2, 5, 6);
+        while (expected.hasNext()) {
+            assertTrue(actual.hasNext(), "Paths should have the same length");
+            assertEquals(expected.next(), actual.next(), "Paths should visit cells in the same order");
+        }
+        assertFalse(actual.hasNext(), "Paths should have the same length");
+    }
+
+    @Test
+    @DisplayName("Seeking should land where stepping would")
+    void testFreeRunPathSeek() {
+        LawnState lawn = dividedLawn();
+        CoveragePath stepped = new FreeRunSerpentinePath(lawn);
+        CoveragePath sought = new FreeRunSerpentinePath(lawn);
+        stepped.reset(0, 0, 5, 9);
+        sought.reset(0, 0, 5, 9);
+        for (long position = 0; stepped.hasNext(); position++) {
+            sought.seek(position);
+            assertEquals(stepped.next(), sought.next(), "Seek to " + position + " should match stepping");
+        }
+    }
+
+    @Test
+    @DisplayName("Mowing a lawn with 30% obstacles should take one tick per free cell")
+    void testObstaclesCostNoTicks() {
+        LawnState lawn = new LawnState(200, 200);
+        Random random = new Random(42);
+        for (int i = 0; i < 200 * 200 * 3 / 10; i++) {
+            lawn.setObstacle(random.nextInt(200), random.nextInt(200));
+        }
+        LawnMower mower = new LawnMower(lawn);
+
+        long ticks = new SimulationEngine(mower, SimulationClock.fastForward()).run();
+
+        assertTrue(lawn.isFullyMowed(), "Every free cell should be mowed");
+        assertEquals(lawn.getMowableCount(), ticks, "Obstacles should not cost ticks");
+        assertEquals(lawn.getMowableCount(), mower.getCellsMowed(), "Every tick should mow a cell");
+    }
+
+    @Test
+    @DisplayName("Other strategies should skip obstacle cells without spending ticks")
+    void testPlainPathSkipsObstacles() {
+        LawnState lawn = dividedLawn();
+        LawnMower mower = new LawnMower(lawn);
+        mower.setCoveragePath(CoverageStrategy.SPIRAL.create());
+
+        long ticks = new SimulationEngine(mower, SimulationClock.fastForward()).run();
+
+        assertTrue(lawn.isFullyMowed(), "Every free cell should be mowed");
+        assertEquals(lawn.getMowableCount(), ticks, "Obstacles should not cost ticks");
+    }
+}
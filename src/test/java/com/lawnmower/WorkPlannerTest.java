@@ -0,0 +1,146 @@
+package com.lawnmower;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WorkPlannerTest {
+
+    @Test
+    @DisplayName("Tiles should cover the lawn exactly once")
+    void testTilesCoverLawn() {
+        WorkPlanner planner = WorkPlanner.tiles(25, 37, 8, 10, 1);
+        boolean[][] covered = new boolean[25][37];
+        Tile tile;
+        while ((tile = planner.next(0)) != null) {
+            for (int row = tile.getTop(); row < tile.getBottom(); row++) {
+                for (int col = tile.getLeft(); col < tile.getRight(); col++) {
+                    assertFalse(covered[row][col], "Cell " + row + "," + col + " should be in one tile");
+                    covered[row][col] = true;
+                }
+            }
+        }
+        for (boolean[] row : covered) {
+            for (boolean cell : row) {
+                assertTrue(cell, "Every cell should be in a tile");
+            }
+        }
+        assertEquals(16, planner.getTileCount(), "4 bands of 4 tiles");
+    }
+
+    @Test
+    @DisplayName("Consecutive tiles should be adjacent")
+    void testSerpentineTileOrder() {
+        WorkPlanner planner = WorkPlanner.tiles(30, 30, 10, 10, 1);
+        Tile previous = planner.next(0);
+        Tile tile;
+        while ((tile = planner.next(0)) != null) {
+            int distance = Math.abs(tile.getTop() - previous.getTop()) + Math.abs(tile.getLeft() - previous.getLeft());
+            assertEquals(10, distance, "Next tile should share an edge with " + previous);
+            previous = tile;
+        }
+    }
+
+    @Test
+    @DisplayName("Initial assignment should split the area evenly")
+    void testBalancedAssignment() {
+        WorkPlanner planner = WorkPlanner.tiles(100, 100, 10, 10, 4);
+        for (int mower = 0; mower < 4; mower++) {
+            assertEquals(2500, planner.getRemainingArea(mower), "Each mower should get a quarter");
+        }
+    }
+
+    @Test
+    @DisplayName("Idle mowers should steal from the busiest queue")
+    void testStealing() {
+        WorkPlanner planner = WorkPlanner.tiles(40, 10, 10, 10, 2);
+        List<Tile> taken = new ArrayList<>();
+        Tile tile;
+        while ((tile = planner.next(1)) != null) {
+            taken.add(tile);
+        }
+
+        assertEquals(4, taken.size(), "Mower 1 should end up with every tile");
+        assertEquals(2, planner.getStolenTiles(), "Mower 0's two tiles should be stolen");
+        assertEquals(new Tile(10, 0, 20, 10), taken.get(2), "Stealing should start from the far end");
+        assertEquals(0, planner.getRemainingArea(0), "Victim queue should be empty");
+    }
+
+    @Test
+    @DisplayName("Strips should never be stolen")
+    void testStripsStayWithOwner() {
+        WorkPlanner planner = WorkPlanner.strips(10, 10, 2);
+        assertEquals(new Tile(0, 0, 5, 10), planner.next(0), "Mower 0 should get the top strip");
+        assertNull(planner.next(0), "Mower 0 should not take mower 1's strip");
+        assertEquals(new Tile(5, 0, 10, 10), planner.next(1), "Mower 1 should keep its strip");
+    }
+
+    @Test
+    @DisplayName("Concurrent mowers should receive every tile exactly once")
+    void testConcurrentHandOut() throws InterruptedException {
+        int mowers = 8;
+        WorkPlanner planner = WorkPlanner.tiles(200, 200, 5, 5, mowers);
+        Set<Tile> handedOut = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(mowers);
+        CountDownLatch latch = new CountDownLatch(mowers);
+        for (int i = 0; i < mowers; i++) {
+            int mower = i;
+            executor.submit(() -> {
+                try {
+                    Tile tile;
+                    while ((tile = planner.next(mower)) != null) {
+                        assertTrue(handedOut.add(tile), "Tile handed out twice: " + tile);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS), "Hand-out should finish");
+        executor.shutdown();
+
+        assertEquals(planner.getTileCount(), handedOut.size(), "Every tile should be handed out");
+    }
+
+    @Test
+    @DisplayName("Fleet should finish a tiled lawn even when one mower is slow")
+    void testFleetWithSlowMower() throws InterruptedException {
+        LawnState lawn = new LawnState(40, 40);
+        MowerFleet fleet = new MowerFleet(lawn, 4);
+        WorkPlanner planner = WorkPlanner.tiles(40, 40, 5, 5, 4);
+        int[] created = {0};
+
+        fleet.run(planner, () -> {
+            // The first mower crawls at 1 ms per cell, the rest run flat out
+            return created[0]++ == 0 ? SimulationClock.realTime(1) : SimulationClock.fastForward();
+        });
+
+        assertTrue(lawn.isFullyMowed(), "Every cell should be mowed");
+        assertEquals(0, fleet.getDuplicateClaims(), "Tiles should never overlap");
+        assertTrue(planner.getStolenTiles() > 0, "Fast mowers should steal the slow mower's tiles");
+        assertTrue(fleet.getMowers().get(0).getCellsMowed() < 400, "Slow mower should do less than its share");
+        assertTrue(fleet.getMowers().get(1).getTransitDistance() > 0, "Moving between tiles is transit");
+    }
+
+    @Test
+    @DisplayName("Planner should reject invalid settings")
+    void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> WorkPlanner.tiles(10, 10, 0, 5, 2));
+        assertThrows(IllegalArgumentException.class, () -> WorkPlanner.tiles(10, 10, 5, 5, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> new MowerFleet(new LawnState(10, 10), 2).run(WorkPlanner.strips(10, 10, 3), SimulationClock::fastForward));
+    }
+}